@@ -11,6 +11,10 @@ const Comment = ({ comment, reviewId, token, currentUser, onCommentDeleted, onRe
     const [showReplyForm, setShowReplyForm] = useState(false);
     const [anchorEl, setAnchorEl] = useState(null);
     const [openDeleteDialog, setOpenDeleteDialog] = useState(false);
+    // 깊이 제한으로 잘린 답글은 눌렀을 때 페이지 단위로 불러옴
+    const [moreReplies, setMoreReplies] = useState([]);
+    const [replyCursor, setReplyCursor] = useState(null);
+    const [repliesLoaded, setRepliesLoaded] = useState(false);
     const isOwner = currentUser && currentUser.username === comment.username;
 
     const handleMenuOpen = (event) => setAnchorEl(event.currentTarget);
@@ -30,6 +34,19 @@ const Comment = ({ comment, reviewId, token, currentUser, onCommentDeleted, onRe
         }
     };
 
+    const handleLoadReplies = async () => {
+        try {
+            const res = await reviewService.getReplies(comment.id, replyCursor);
+            setMoreReplies(prev => [...prev, ...res.data.content]);
+            setReplyCursor(res.data.nextCursor);
+            setRepliesLoaded(true);
+        } catch (err) {
+            setSnackbar({ open: true, message: '답글을 불러오는 중 오류가 발생했습니다.', severity: 'error' });
+        }
+    };
+    const showMoreReplies = (comment.hasMoreReplies && !repliesLoaded) || replyCursor !== null;
+    const replies = [...(comment.children || []), ...moreReplies];
+
     const handleReplyCreated = () => { setShowReplyForm(false); if (onReplyCreated) onReplyCreated(); };
 
     return (
@@ -55,13 +72,16 @@ const Comment = ({ comment, reviewId, token, currentUser, onCommentDeleted, onRe
                         <CommentForm reviewId={reviewId} parentId={comment.id} token={token} onCommentCreated={handleReplyCreated} setSnackbar={setSnackbar}/>
                     </Collapse>
 
-                    {comment.children?.length > 0 && (
+                    {replies.length > 0 && (
                         <Box sx={{ mt: 1, pl: 2, borderLeft: '2px solid #eee' }}>
-                            {comment.children.map((childComment) => (
+                            {replies.map((childComment) => (
                                 <Comment key={childComment.id} comment={childComment} reviewId={reviewId} token={token} currentUser={currentUser} onCommentDeleted={onCommentDeleted} onReplyCreated={onReplyCreated} setSnackbar={setSnackbar}/>
                             ))}
                         </Box>
                     )}
+                    {showMoreReplies && (
+                        <Button size="small" onClick={handleLoadReplies} sx={{ mt: 0.5, p: 0.2 }}>답글 더 보기</Button>
+                    )}
                 </Box>
             </Box>
 
@@ -1,5 +1,5 @@
 import React, { useState, useEffect, useCallback } from 'react';
-import { Box, Typography, Divider, CircularProgress } from '@mui/material';
+import { Box, Typography, Divider, CircularProgress, Button } from '@mui/material';
 import reviewService from '../../services/reviewService';
 import Comment from './Comment';
 import CommentForm from './CommentForm';
@@ -7,21 +7,39 @@ import CommentForm from './CommentForm';
 // [수정] props 목록에 currentUser가 포함되어 있는지 확인
 const CommentSection = ({ reviewId, token, currentUser, setSnackbar, onCommentChange }) => {
     const [comments, setComments] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
     const [loading, setLoading] = useState(true);
+    const [loadingMore, setLoadingMore] = useState(false);
 
     const fetchComments = useCallback(async () => {
         setLoading(true);
         try {
-            const res = await reviewService.getComments(reviewId);
-            setComments(res.data);
+            const res = await reviewService.getCommentTree(reviewId);
+            setComments(res.data.content);
+            setNextCursor(res.data.nextCursor);
         } catch (error) {
             setSnackbar({ open: true, message: '댓글을 불러오는 중 오류가 발생했습니다.', severity: 'error' });
             setComments([]);
+            setNextCursor(null);
         } finally {
             setLoading(false);
         }
     }, [reviewId, setSnackbar]);
 
+    // 다음 최상위 댓글 페이지 이어 붙이기
+    const fetchMoreComments = async () => {
+        setLoadingMore(true);
+        try {
+            const res = await reviewService.getCommentTree(reviewId, nextCursor);
+            setComments(prev => [...prev, ...res.data.content]);
+            setNextCursor(res.data.nextCursor);
+        } catch (error) {
+            setSnackbar({ open: true, message: '댓글을 불러오는 중 오류가 발생했습니다.', severity: 'error' });
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     useEffect(() => {
         fetchComments();
     }, [fetchComments]);
@@ -65,6 +83,11 @@ const CommentSection = ({ reviewId, token, currentUser, setSnackbar, onCommentCh
                     />
                 ))
             )}
+            {!loading && nextCursor && (
+                <Button size="small" onClick={fetchMoreComments} disabled={loadingMore} sx={{ mt: 1 }}>
+                    {loadingMore ? '불러오는 중...' : '댓글 더 보기'}
+                </Button>
+            )}
             <Box sx={{ mt: 2 }}>
                 <CommentForm
                     reviewId={reviewId}
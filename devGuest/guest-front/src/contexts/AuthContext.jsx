@@ -1,4 +1,5 @@
 import React, { createContext, useContext, useState, useEffect } from 'react';
+import { apiPost } from '../services/api';
 
 const AuthContext = createContext();
 
@@ -40,12 +41,15 @@ export const AuthProvider = ({ children }) => {
     checkAuth();
   }, []);
 
-  const login = (userData, token) => {
+  const login = (userData, token, refreshToken) => {
     setUser(userData);
     setIsAuthenticated(true);
     setIsAdmin(userData.role === 'ADMIN');
     
     localStorage.setItem('token', token);
+    if (refreshToken) {
+      localStorage.setItem('refreshToken', refreshToken);
+    }
     localStorage.setItem('userInfo', JSON.stringify(userData));
   };
 
@@ -54,7 +58,14 @@ export const AuthProvider = ({ children }) => {
     setIsAuthenticated(false);
     setIsAdmin(false);
     
+    // 서버의 리프레시 토큰 폐기 (실패해도 로컬 로그아웃은 진행)
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+      apiPost('/auth/logout', { refreshToken }).catch(() => {});
+    }
+
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('userInfo');
   };
 
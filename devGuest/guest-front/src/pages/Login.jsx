@@ -53,8 +53,8 @@ const Login = () => {
 
         try {
             const response = await authService.login(formData);
-            const { user, token } = response.data;
-            login(user, token);
+            const { user, token, refreshToken } = response.data;
+            login(user, token, refreshToken);
             navigate(user.role === 'ADMIN' ? '/admin' : '/');
         } catch (error) {
             if (error.message === 'ACCOUNT_DELETED') {
@@ -75,8 +75,8 @@ const Login = () => {
             setCancelDialogOpen(false);
             setError('');
             const response = await authService.login(formData);
-            const { user, token } = response.data;
-            login(user, token);
+            const { user, token, refreshToken } = response.data;
+            login(user, token, refreshToken);
             navigate(user.role === 'ADMIN' ? '/admin' : '/');
         } catch (error) {
             setError(error.message || '탈퇴 취소 중 오류가 발생했습니다.');
@@ -4,8 +4,42 @@
 const API_BASE_URL = 'http://localhost:8080/api';
 //개발용 URL
 
+// 진행 중인 토큰 재발급 요청 (동시에 여러 요청이 만료되어도 재발급은 한 번만)
+let refreshPromise = null;
+
+// 리프레시 토큰으로 액세스 토큰 재발급 - 성공 여부 반환
+const refreshAccessToken = () => {
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (!refreshToken) {
+    return Promise.resolve(false);
+  }
+  if (!refreshPromise) {
+    refreshPromise = fetch(`${API_BASE_URL}/auth/refresh`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ refreshToken }),
+    })
+      .then(async (response) => {
+        if (!response.ok) {
+          localStorage.removeItem('token');
+          localStorage.removeItem('refreshToken');
+          return false;
+        }
+        const { data } = await response.json();
+        localStorage.setItem('token', data.token);
+        localStorage.setItem('refreshToken', data.refreshToken);
+        return true;
+      })
+      .catch(() => false)
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
 // HTTP 요청을 위한 헬퍼 함수
-const apiRequest = async (endpoint, options = {}) => {
+const apiRequest = async (endpoint, options = {}, retried = false) => {
   const token = localStorage.getItem('token');
 
   const config = {
@@ -33,6 +67,14 @@ const apiRequest = async (endpoint, options = {}) => {
       url: response.url
     });
 
+    // 액세스 토큰 만료(401) 시 한 번만 재발급 후 재시도 - 403(권한 없음)은 재발급해도 같으므로 그대로 실패 처리
+    if (response.status === 401 && token && !retried
+        && !endpoint.startsWith('/auth/')) {
+      if (await refreshAccessToken()) {
+        return apiRequest(endpoint, options, true);
+      }
+    }
+
     if (!response.ok) {
       let errorMessage = `HTTP error! status: ${response.status}`;
       let errorData = null;
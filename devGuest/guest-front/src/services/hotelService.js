@@ -380,11 +380,16 @@ export const userService = {
   // 비밀번호 변경
   changePassword: async (passwordData) => {
     try {
-      return apiPut('/users/password', {
+      const response = await apiPut('/users/password', {
         currentPassword: passwordData.currentPassword,
         newPassword: passwordData.newPassword,
         confirmPassword: passwordData.confirmPassword
       });
+      // 다른 기기의 로그인은 모두 폐기되고 현재 세션용 리프레시 토큰만 새로 발급됨
+      if (response?.data?.refreshToken) {
+        localStorage.setItem('refreshToken', response.data.refreshToken);
+      }
+      return response;
     } catch (error) {
       console.error('Failed to change password:', error);
       throw error;
@@ -25,9 +25,13 @@ const reviewService = {
   },
 
   // --- Comment API (수정 및 추가) ---
-  getComments: (reviewId) => {
-    // [수정] 경로 변경
-    return axios.get(`${API_BASE_URL}/comments/review/${reviewId}`);
+  // 최상위 댓글 페이지 (cursor 이후, 답글은 3단계까지 - 더 깊은 답글은 getReplies로)
+  getCommentTree: (reviewId, cursor = null, size = 20) => {
+    return axios.get(`${API_BASE_URL}/comments/review/${reviewId}/tree`, { params: { cursor, size } });
+  },
+  // 답글 더 보기
+  getReplies: (commentId, cursor = null, size = 20) => {
+    return axios.get(`${API_BASE_URL}/comments/${commentId}/replies`, { params: { cursor, size } });
   },
   createComment: (reviewId, commentData, token) => {
     // [수정] 경로 변경
@@ -0,0 +1,91 @@
+package kr.or.hotelpms.hotel.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 인증 필터의 요청당 토큰 처리 비용 비교 (HS512, 검증 결과 캐시 없음).
+ * multiParse: 이전 필터 - canTokenBeParsed/getUsernameFromToken/validateToken(사용자명+만료)로 네 번 파싱하고
+ * 매번 비밀키와 파서를 새로 만듦. singleParse: 현재 필터 - 시작 시 만든 파서로 한 번 파싱한 클레임을 재사용.
+ * ./gradlew jmh -Pjmh.includes=JwtFilterParse
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterParseBenchmark {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890123456789012345678901234567890";
+
+    private String token;
+    private JwtParser parser;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        token = Jwts.builder()
+                .setSubject("benchmark-user")
+                .claim("role", "USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    @Benchmark
+    public String multiParse() {
+        if (!canTokenBeParsed(token)) {
+            return null;
+        }
+        String username = legacyClaims(token).getSubject();
+        String tokenUsername = legacyClaims(token).getSubject();
+        boolean expired = legacyClaims(token).getExpiration().before(new Date());
+        return tokenUsername.equals(username) && !expired ? username : null;
+    }
+
+    @Benchmark
+    public String singleParse() {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        return claims.getSubject();
+    }
+
+    private static boolean canTokenBeParsed(String token) {
+        try {
+            legacyClaims(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 이전 JwtUtil.getClaimsFromToken - 호출마다 키와 파서 생성
+    private static Claims legacyClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,76 @@
+package kr.or.hotelpms.hotel.benchmark;
+
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.or.hotelpms.hotel.security.VerifiedTokenCache;
+
+/**
+ * 액세스 토큰 검증 비용 비교: HS512 / ES256 / RS256 서명 검증과 검증 결과 캐시 적중.
+ * ./gradlew jmh -Pjmh.includes=JwtVerification
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    @Param({"HS512", "ES256", "RS256"})
+    public String algorithm;
+
+    private String token;
+    private JwtParser parser;
+    private VerifiedTokenCache cache;
+
+    @Setup
+    public void setUp() {
+        SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+        var builder = Jwts.builder()
+                .setSubject("benchmark-user")
+                .claim("role", "ROLE_USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)));
+
+        if (signatureAlgorithm.isHmac()) {
+            SecretKey secretKey = Keys.secretKeyFor(signatureAlgorithm);
+            token = builder.signWith(secretKey, signatureAlgorithm).compact();
+            parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        } else {
+            KeyPair keyPair = Keys.keyPairFor(signatureAlgorithm);
+            token = builder.setHeaderParam("kid", "bench").signWith(keyPair.getPrivate(), signatureAlgorithm).compact();
+            parser = Jwts.parserBuilder().setSigningKey(keyPair.getPublic()).build();
+        }
+
+        cache = new VerifiedTokenCache(1000, new SimpleMeterRegistry());
+        cache.put(token, parser.parseClaimsJws(token).getBody());
+    }
+
+    // 매 요청 서명 검증
+    @Benchmark
+    public Claims verifySignature() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // 검증 결과 캐시 적중 (SHA-256 다이제스트 + 조회)
+    @Benchmark
+    public Claims cachedClaims() {
+        return cache.get(token);
+    }
+}
@@ -0,0 +1,54 @@
+package kr.or.hotelpms.hotel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해시 1회 비용: BCrypt 강도별 / Argon2 (SecurityConfig와 같은 설정).
+ * 결과(ms/op)로 security.password.bcrypt-strength, hash-threads를 정한다.
+ * ./gradlew jmh -Pjmh.includes=PasswordHash
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "benchmark-password-1234";
+
+    @Param({"bcrypt-10", "bcrypt-12", "argon2"})
+    public String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = encoder.equals("argon2")
+                ? Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+                : new BCryptPasswordEncoder(Integer.parseInt(encoder.substring("bcrypt-".length())));
+        encoded = passwordEncoder.encode(PASSWORD);
+    }
+
+    // 회원가입/비밀번호 변경/재해시
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    // 로그인/비밀번호 확인
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encoded);
+    }
+}
@@ -3,20 +3,24 @@ package kr.or.hotelpms.hotel;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.github.cdimascio.dotenv.Dotenv;
 import kr.or.hotelpms.hotel.service.AuthService;
+import kr.or.hotelpms.hotel.service.LikeCountBuffer;
+import kr.or.hotelpms.hotel.service.ReservationService;
+import kr.or.hotelpms.hotel.service.ReviewService;
 import kr.or.hotelpms.hotel.service.RoomService;
 import lombok.RequiredArgsConstructor;
 
 @SpringBootApplication
-@EnableScheduling
 @RequiredArgsConstructor
 public class HotelReservationApplication implements CommandLineRunner {
 
 	private final AuthService authService;
 	private final RoomService roomService;
+	private final ReservationService reservationService;
+	private final ReviewService reviewService;
+	private final LikeCountBuffer likeCountBuffer;
 
 	public static void main(String[] args) {
 		// .env 파일 로드하여 환경 변수를 시스템 프로퍼티로 설정
@@ -50,6 +54,12 @@ public class HotelReservationApplication implements CommandLineRunner {
 		authService.createInitialAdmin();
 		// 애플리케이션 시작 시 초기 객실 정보 생성
 		roomService.createInitialRooms();
+		// 객실 예약 인덱스 적재 (빈 방 배정 시 객실별 DB 조회 생략)
+		reservationService.rebuildAvailabilityIndex();
+		// 리뷰 댓글 수 컬럼 보정 (컬럼 추가 이전 데이터 - 어긋난 리뷰만 id 구간별로)
+		reviewService.recountComments();
+		// 좋아요 수 재집계 (버퍼 반영 전 종료로 생긴 오차 보정)
+		likeCountBuffer.reconcile();
 		System.out.println("=== 초기 데이터 생성 완료 ===");
 		System.out.println("관리자 계정: admin / admin");
 		System.out.println("고객은 회원가입을 통해 계정을 생성하세요.");
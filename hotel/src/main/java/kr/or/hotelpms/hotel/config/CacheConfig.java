@@ -0,0 +1,88 @@
+package kr.or.hotelpms.hotel.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import kr.or.hotelpms.hotel.service.CacheService;
+import kr.or.hotelpms.hotel.service.PushService;
+
+/**
+ * 공유 캐시 설정.
+ * hotel.cache.redis.enabled=true 이면 Redis에 캐시를 두고 노드 간 무효화를 pub/sub으로 전파하고,
+ * 아니면 단일 노드용 로컬 캐시만 사용한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 캐시 이름
+    public static final String ROOMS = "rooms";                 // 객실 목록 스냅샷 (각 노드 메모리, 무효화만 전파)
+    public static final String USER_DETAILS = "userDetails";    // 사용자명 -> UserDetails (비밀번호 제외)
+    public static final String REVIEW_PAGES = "reviewPages";    // 리뷰 목록 페이지 (좋아요 여부 제외)
+    public static final String WS_SESSIONS = "wsSessions";      // 사용자명 -> 각 노드의 WebSocket 세션 (로그인 폐기 시 종료만 전파)
+
+    // 노드 간 캐시 무효화 채널
+    public static final String INVALIDATION_CHANNEL = "hotel:cache-invalidation";
+
+    @Bean
+    @ConditionalOnProperty(name = "hotel.cache.redis.enabled", havingValue = "true")
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .prefixCacheNameWith("hotel:")
+                .entryTtl(Duration.ofMinutes(10));
+
+        return RedisCacheManager.builder(
+                        RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(500)))
+                .cacheDefaults(defaults)
+                .withCacheConfiguration(USER_DETAILS, defaults.entryTtl(Duration.ofMinutes(5)))
+                .withCacheConfiguration(REVIEW_PAGES, defaults.entryTtl(Duration.ofMinutes(1)))
+                .disableCreateOnMissingCache()
+                .build();
+    }
+
+    // Redis를 쓰지 않는 단일 노드 환경: 리뷰 페이지만 로컬에 캐시 (개수 상한 + Redis와 같은 1분 TTL)
+    @Bean
+    @ConditionalOnProperty(name = "hotel.cache.redis.enabled", havingValue = "false", matchIfMissing = true)
+    public CacheManager localCacheManager(@Value("${hotel.cache.review-pages.max-entries:1000}") long maxEntries) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(REVIEW_PAGES);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(1)));
+        return cacheManager;
+    }
+
+    // 다른 노드가 보낸 무효화 메시지를 받아 로컬 캐시에 반영
+    @Bean
+    @ConditionalOnProperty(name = "hotel.cache.redis.enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheService cacheService,
+                                                                            PushService pushService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheService.receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+        // 다른 노드에서 일어난 변경의 WebSocket 푸시도 같은 연결로 받음
+        container.addMessageListener(
+                (message, pattern) -> pushService.receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(PushService.PUSH_CHANNEL));
+        return container;
+    }
+}
@@ -1,12 +1,55 @@
 package kr.or.hotelpms.hotel.config;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JWT 서명 키 설정 (jwt.signing.*).
+ * algorithm이 HS512이면 기존 jwt.secret 공유 비밀키로 서명하고,
+ * ES256/RS256이면 keys에 등록된 키 중 active-kid 키로 서명한다.
+ *
+ * 키 교체 절차: 새 키를 공개키만(또는 개인키까지) 모든 노드에 추가 배포 -> active-kid를 새 키로 변경
+ * -> 기존 토큰이 모두 만료된 뒤 이전 키 제거. 검증은 토큰 헤더의 kid로 키를 찾으므로 중간에 끊기지 않는다.
+ * 키를 key-dir(시크릿 마운트 등)에 두면 파일을 바꾼 뒤 POST /actuator/jwtkeys 로 재시작 없이 다시 읽는다.
+ * HS512에서 ES256/RS256으로 옮길 때 kid 없는 기존 토큰은 accept-legacy-hs512=true(필요하면 legacy-hs512-until로 마감)일 때만 받는다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "jwt.signing")
 public class JwtConfig {
 
-}
+    // HS512 | ES256 | RS256
+    private String algorithm = "HS512";
+
+    // 새 토큰 서명에 사용할 키 (비어 있으면 keys 중 개인키가 있는 첫 번째 키)
+    private String activeKid;
 
-// JWT 관련 설정 (시크릿 키, 만료 시간 등) //
-// 권장 (JWT 사용 시) 만들어야 함 //
-// 난이도: 중급~상급 (JWT 설정, 보안 개념) //
+    private List<Key> keys = new ArrayList<>();
 
-// 백앤드 - 보안 설정
-// JWT 관련 설정값 관리
+    // 키 파일 디렉터리 (<kid>.pub.pem 공개키, <kid>.key.pem 개인키(선택), active-kid 파일(선택)) - 재적재 때마다 다시 읽음
+    private String keyDir;
+
+    // ES256/RS256 전환 후에도 kid 없는 기존 HS512 토큰을 받을지 여부 (기본 거부)
+    private boolean acceptLegacyHs512 = false;
+
+    // 기존 HS512 토큰을 받는 마감 시각 (ISO-8601, 비어 있으면 accept-legacy-hs512 설정만 따름)
+    private Instant legacyHs512Until;
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String kid;
+        // PKCS#8 PEM (검증 전용 키면 비워 둠)
+        private String privateKey;
+        // X.509 SubjectPublicKeyInfo PEM
+        private String publicKey;
+    }
+}
@@ -0,0 +1,13 @@
+package kr.or.hotelpms.hotel.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업(메일 발송, 알림/좋아요 반영, 정리 작업) 활성화
+// 통합 테스트에서는 꺼서 쿼리 수 측정 등에 백그라운드 작업이 섞이지 않게 하고, 필요한 작업은 직접 호출
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "hotel.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
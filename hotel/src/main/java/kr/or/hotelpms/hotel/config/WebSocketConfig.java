@@ -0,0 +1,155 @@
+package kr.or.hotelpms.hotel.config;
+
+import java.security.Principal;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import kr.or.hotelpms.hotel.security.StompAuthChannelInterceptor;
+import kr.or.hotelpms.hotel.security.WebSocketSessionRegistry;
+
+/**
+ * STOMP over WebSocket 푸시 채널 (/ws).
+ * - /topic/rooms/status : 객실 상태 변경 (관리자만 구독)
+ * - /user/queue/notifications, /user/queue/reservations : 로그인 사용자 개인 알림
+ * 인증은 STOMP CONNECT 프레임의 Authorization 헤더로 하고, 토큰이 만료되거나 사용자 정보가 바뀌면 연결을 닫는다.
+ * 유휴 연결은 Tomcat NIO 셀렉터가 스레드 없이 들고 있고, 연결당 버퍼와 전송 대기량을 작게 제한한다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    public static final String ROOM_STATUS_TOPIC = "/topic/rooms/status";
+
+    // 25초 간격 하트비트 - 프록시 유휴 타임아웃(보통 60초) 전에 연결 유지
+    private static final long[] HEARTBEAT = {25000, 25000};
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final TaskScheduler taskScheduler;
+
+    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           WebSocketSessionRegistry sessionRegistry,
+                           @Lazy @Qualifier("taskScheduler") TaskScheduler taskScheduler) {
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.sessionRegistry = sessionRegistry;
+        this.taskScheduler = taskScheduler;
+    }
+
+    // 메시지 브로커가 자체 TaskScheduler 빈을 등록하면 Boot 기본 스케줄러가 빠지므로
+    // spring.task.scheduling.* 설정이 적용된 스케줄러를 직접 등록 (@Scheduled 작업과 하트비트가 함께 사용)
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins("http://localhost:5173", "http://localhost:5174");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(HEARTBEAT)
+                .setTaskScheduler(taskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 서버 → 클라이언트 단방향 푸시만 하므로 수신 메시지는 작게, 느린 클라이언트는 대기량 초과 시 끊음
+        registration.setMessageSizeLimit(8 * 1024)
+                .setSendBufferSizeLimit(64 * 1024)
+                .setSendTimeLimit(10_000)
+                .setTimeToFirstMessage(30_000)
+                // 만료/폐기 시 닫을 수 있게 열린 세션을 등록
+                .addDecoratorFactory(handler -> new WebSocketHandlerDecorator(handler) {
+                    @Override
+                    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                        sessionRegistry.register(session);
+                        super.afterConnectionEstablished(session);
+                    }
+
+                    @Override
+                    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                        sessionRegistry.unregister(session.getId());
+                        super.afterConnectionClosed(session, closeStatus);
+                    }
+                });
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(4).maxPoolSize(8);
+        registration.interceptors(stompAuthChannelInterceptor, new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+                if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+                    checkSubscription(accessor.getDestination(), accessor.getUser());
+                }
+                return message;
+            }
+        });
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(4).maxPoolSize(8);
+        // 토큰이 만료된 세션에는 닫히기 전이라도 푸시를 보내지 않음
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()))
+                        && sessionRegistry.isExpired(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+                    return null;
+                }
+                return message;
+            }
+        });
+    }
+
+    // 객실 상태는 관리자만, 개인 큐는 /user/ 경로로만 구독 가능 (다른 사용자의 세션 큐 직접 구독 차단)
+    private void checkSubscription(String destination, Principal user) {
+        if (destination == null) {
+            throw new MessageDeliveryException("구독 경로가 없습니다.");
+        }
+        if (destination.startsWith("/queue/")) {
+            throw new MessageDeliveryException("개인 알림은 /user/queue/ 경로로 구독하세요.");
+        }
+        if (destination.startsWith("/topic/rooms/") && !isAdmin(user)) {
+            throw new MessageDeliveryException("객실 상태는 관리자만 구독할 수 있습니다.");
+        }
+    }
+
+    private boolean isAdmin(Principal user) {
+        return user instanceof Authentication authentication && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
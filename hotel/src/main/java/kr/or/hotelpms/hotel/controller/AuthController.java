@@ -1,16 +1,26 @@
 package kr.or.hotelpms.hotel.controller;
 
 import kr.or.hotelpms.hotel.dto.*;
+import kr.or.hotelpms.hotel.security.JwtProvider;
+import kr.or.hotelpms.hotel.security.LoginRateLimiter;
 import kr.or.hotelpms.hotel.service.AuthService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -19,6 +29,19 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtProvider jwtProvider;
+    private final LoginRateLimiter loginRateLimiter;
+
+    // 토큰 검증용 공개키 목록 (JWK Set) - 비대칭 서명을 사용할 때만 제공
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        if (!jwtProvider.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtProvider.jwks());
+    }
 
     // 회원가입
     @PostMapping("/register")
@@ -32,21 +55,76 @@ public class AuthController {
         }
     }
 
-    // 로그인
+    // 로그인 (비밀번호 검증이 끝나면 비동기로 응답)
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<ApiResponse<LoginResponse>>> login(@Valid @RequestBody LoginRequest request,
+                                                                              HttpServletRequest httpRequest) {
+        // 비밀번호 해시 전에 IP별 요청 횟수와 사용자명+IP별 실패 횟수부터 확인
+        String ip = httpRequest.getRemoteAddr();
+        String failureKey = request.getUsername() + "|" + ip;
+        if (!loginRateLimiter.tryAcquire(LoginRateLimiter.Scope.LOGIN_IP, ip)
+                || loginRateLimiter.isBlocked(LoginRateLimiter.Scope.LOGIN_FAILURE, failureKey)) {
+            return CompletableFuture.completedFuture(tooManyRequests());
+        }
         try {
-            LoginResponse response = authService.login(request);
-            return ResponseEntity.ok(ApiResponse.success(response, "로그인 성공"));
+            return authService.login(request)
+                    .thenApply(response -> {
+                        loginRateLimiter.reset(LoginRateLimiter.Scope.LOGIN_FAILURE, failureKey);
+                        return ResponseEntity.ok(ApiResponse.success(response, "로그인 성공"));
+                    })
+                    .exceptionally(error -> loginFailure(error, failureKey));
         } catch (Exception e) {
-            return ResponseEntity.badRequest()
+            return CompletableFuture.completedFuture(loginFailure(e, failureKey));
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> tooManyRequests() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginRateLimiter.retryAfterSeconds()))
+                .body(ApiResponse.error("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    // 서버 과부하(해시 대기열 포화)가 아닌 실패만 실패 횟수에 기록
+    private ResponseEntity<ApiResponse<LoginResponse>> loginFailure(Throwable error, String failureKey) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+        loginRateLimiter.recordFailure(LoginRateLimiter.Scope.LOGIN_FAILURE, failureKey);
+        return ResponseEntity.badRequest()
+                .body(ApiResponse.error(cause.getMessage()));
+    }
+
+    // 액세스 토큰 재발급 (리프레시 토큰 교체)
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<LoginResponse>> refresh(@RequestBody Map<String, String> request) {
+        try {
+            LoginResponse response = authService.refresh(request.get("refreshToken"));
+            return ResponseEntity.ok(ApiResponse.success(response, "토큰이 재발급되었습니다."));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error(e.getMessage()));
         }
     }
 
+    // 로그아웃 (리프레시 토큰 폐기)
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@RequestBody Map<String, String> request) {
+        String refreshToken = request.get("refreshToken");
+        if (refreshToken != null) {
+            authService.logout(refreshToken);
+        }
+        return ResponseEntity.ok(ApiResponse.success(null, "로그아웃되었습니다."));
+    }
+
     // 비밀번호 찾기
     @PostMapping("/find-password")
-    public ResponseEntity<ApiResponse<Void>> findPassword(@RequestBody Map<String, String> request) {
+    public ResponseEntity<ApiResponse<Void>> findPassword(@RequestBody Map<String, String> request,
+                                                          HttpServletRequest httpRequest) {
+        if (!loginRateLimiter.tryAcquire(LoginRateLimiter.Scope.FIND_PASSWORD_IP, httpRequest.getRemoteAddr())) {
+            return tooManyRequests();
+        }
         try {
             String email = request.get("email");
             String name = request.get("name");
@@ -1,5 +1,6 @@
 package kr.or.hotelpms.hotel.controller;
 
+import kr.or.hotelpms.hotel.dto.CommentDto;
 import kr.or.hotelpms.hotel.exception.AuthorizationException;
 import kr.or.hotelpms.hotel.model.Comment;
 import kr.or.hotelpms.hotel.service.CommentService;
@@ -22,10 +23,28 @@ public class CommentController {
     }
 
     @GetMapping("/review/{reviewId}")
-    public List<Comment> getComments(@PathVariable Long reviewId) {
+    public List<CommentDto.CommentNode> getComments(@PathVariable Long reviewId) {
         return commentService.getCommentsByReviewId(reviewId);
     }
 
+    // 최상위 댓글 페이지 (cursor 이후 size개, 답글은 maxDepth 단계까지)
+    @GetMapping("/review/{reviewId}/tree")
+    public CommentDto.CommentPage getCommentTree(@PathVariable Long reviewId,
+                                                 @RequestParam(required = false) Long cursor,
+                                                 @RequestParam(defaultValue = "20") int size,
+                                                 @RequestParam(defaultValue = "3") int maxDepth) {
+        return commentService.getCommentTree(reviewId, cursor, size, maxDepth);
+    }
+
+    // 답글 더 보기 (hasMoreReplies인 댓글 또는 다음 답글 페이지)
+    @GetMapping("/{commentId}/replies")
+    public CommentDto.CommentPage getReplies(@PathVariable Long commentId,
+                                             @RequestParam(required = false) Long cursor,
+                                             @RequestParam(defaultValue = "20") int size,
+                                             @RequestParam(defaultValue = "3") int maxDepth) {
+        return commentService.getReplies(commentId, cursor, size, maxDepth);
+    }
+
     @PostMapping("/review/{reviewId}")
     public ResponseEntity<?> createComment(@PathVariable Long reviewId,
                                            @RequestBody Map<String, Object> payload,
@@ -1,12 +1,63 @@
 package kr.or.hotelpms.hotel.controller;
 
+import java.util.Map;
+
+import kr.or.hotelpms.hotel.dto.ApiResponse;
+import kr.or.hotelpms.hotel.dto.NotificationDto;
+import kr.or.hotelpms.hotel.service.NotificationService;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+// 사용자 알림 API (알림 목록, 읽음 처리)
+@RestController
+@RequestMapping("/api/notifications")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
+@RequiredArgsConstructor
 public class NotificationController {
-    
-}
 
-// 알림 관련 API (푸시, 메시지 등) //
-// 선택 사항 (필요 시) 만들어야 함 //
-// 난이도: 중급 (알림 API) //
+    private final NotificationService notificationService;
 
-// 백앤드 - 컨트롤러
-// 알림 관련 API (사용자 알림 화면)
\ No newline at end of file
+    // 내 알림 목록 (최신순, nextCursor로 다음 페이지 조회)
+    @GetMapping
+    public ResponseEntity<ApiResponse<NotificationDto.NotificationPage>> getNotifications(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success(
+                notificationService.getNotifications(userDetails.getUsername(), cursor, size)));
+    }
+
+    // 읽지 않은 알림 수
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getUnreadCount(
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success(
+                Map.of("unreadCount", notificationService.getUnreadCount(userDetails.getUsername()))));
+    }
+
+    // 알림 읽음 처리
+    @PutMapping("/{notificationId}/read")
+    public ResponseEntity<ApiResponse<Void>> markRead(@PathVariable Long notificationId,
+                                                      @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            notificationService.markRead(notificationId, userDetails.getUsername());
+            return ResponseEntity.ok(ApiResponse.success(null, "알림을 읽음 처리했습니다."));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    // 모든 알림 읽음 처리
+    @PutMapping("/read-all")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> markAllRead(
+            @AuthenticationPrincipal UserDetails userDetails) {
+        int updated = notificationService.markAllRead(userDetails.getUsername());
+        return ResponseEntity.ok(ApiResponse.success(Map.of("updated", updated), "모든 알림을 읽음 처리했습니다."));
+    }
+}
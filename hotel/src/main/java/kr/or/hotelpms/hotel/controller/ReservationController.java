@@ -4,11 +4,13 @@ import kr.or.hotelpms.hotel.dto.ReservationDto;
 import kr.or.hotelpms.hotel.model.Reservation;
 import kr.or.hotelpms.hotel.service.ReservationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/reservations")
@@ -24,11 +26,37 @@ public class ReservationController {
         return ResponseEntity.ok(new ReservationDto.ReservationResponse(reservation));
     }
 
+    // 단체/행사 예약 (같은 타입 객실 여러 개를 한 번에 배정)
+    @PostMapping("/batch")
+    public ResponseEntity<List<ReservationDto.ReservationResponse>> createReservations(
+            @RequestBody ReservationDto.BatchReservationRequest request) {
+        List<Reservation> reservations = reservationService.createReservationsBatch(request);
+        return ResponseEntity.ok(reservations.stream()
+                .map(ReservationDto.ReservationResponse::new)
+                .collect(Collectors.toList()));
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<ReservationDto.ReservationResponse>> getUserReservations(@PathVariable Long userId) {
         return ResponseEntity.ok(reservationService.getReservationsByUser(userId));
     }
 
+    // 관리자 예약 목록 (필터 + 커서 기반 페이지네이션)
+    @GetMapping("/admin")
+    public ResponseEntity<ReservationDto.ReservationPage> searchReservations(
+            @RequestParam(value = "status", required = false) String status,
+            // 날짜 형식이 잘못되면 바인딩 단계에서 400 응답 (yyyy-MM-dd)
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "roomType", required = false) String roomType,
+            @RequestParam(value = "guestName", required = false) String guestName,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        return ResponseEntity.ok(reservationService.searchReservations(
+                status, from, to, roomType, guestName, cursor, size));
+    }
+
+    // 전체 예약 목록 - 기존 관리자 화면 호환용 (신규 화면은 /admin 사용)
     @GetMapping("/admin/all")
     public ResponseEntity<List<ReservationDto.ReservationResponse>> getAllReservations() {
         return ResponseEntity.ok(reservationService.getAllReservations());
@@ -1,14 +1,17 @@
 package kr.or.hotelpms.hotel.controller;
 
+import kr.or.hotelpms.hotel.dto.RoomAvailabilityDto;
 import kr.or.hotelpms.hotel.dto.RoomDto;
 import kr.or.hotelpms.hotel.model.Room;
 import kr.or.hotelpms.hotel.model.RoomStatus;
 import kr.or.hotelpms.hotel.service.RoomService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -51,6 +54,19 @@ public class RoomController {
         return ResponseEntity.ok(roomService.getRoomsByPriceRange(min, max));
     }
 
+    // 객실 타입의 기간별 빈 방 수 (to는 체크아웃 날짜 기준, 미포함)
+    // 날짜 형식이 잘못되면 바인딩 단계에서 400 응답 (yyyy-MM-dd)
+    @GetMapping("/availability")
+    public ResponseEntity<RoomAvailabilityDto.CalendarResponse> getAvailability(@RequestParam("type") String type,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(roomService.getAvailabilityCalendar(type, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<Room> createRoom(@RequestBody Room room) {
         return ResponseEntity.ok(roomService.createRoom(room));
@@ -1,15 +1,20 @@
 package kr.or.hotelpms.hotel.controller;
 
 import kr.or.hotelpms.hotel.dto.*;
+import kr.or.hotelpms.hotel.security.LoginRateLimiter;
 import kr.or.hotelpms.hotel.service.UserService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
@@ -18,6 +23,7 @@ import jakarta.validation.Valid;
 public class UserController {
 
     private final UserService userService;
+    private final LoginRateLimiter loginRateLimiter;
 
     // 테스트 엔드포인트
     @GetMapping("/test")
@@ -57,13 +63,14 @@ public class UserController {
 
     // 비밀번호 변경
     @PutMapping("/password")
-    public ResponseEntity<ApiResponse<String>> changePassword(@Valid @RequestBody ChangePasswordRequest request) {
+    public ResponseEntity<ApiResponse<Map<String, String>>> changePassword(@Valid @RequestBody ChangePasswordRequest request) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             String username = authentication.getName();
             
-            userService.changePassword(username, request);
-            return ResponseEntity.ok(ApiResponse.success("SUCCESS", "비밀번호가 변경되었습니다."));
+            // 다른 기기의 로그인은 모두 끊기고, 현재 세션은 새 리프레시 토큰으로 계속 사용
+            String refreshToken = userService.changePassword(username, request);
+            return ResponseEntity.ok(ApiResponse.success(Map.of("refreshToken", refreshToken), "비밀번호가 변경되었습니다."));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
@@ -102,7 +109,13 @@ public class UserController {
 
     // ✅ 아이디 찾기
     @PostMapping("/find-username")
-    public ResponseEntity<ApiResponse<String>> findUsername(@RequestBody FindUsernameRequest request) {
+    public ResponseEntity<ApiResponse<String>> findUsername(@RequestBody FindUsernameRequest request,
+                                                            HttpServletRequest httpRequest) {
+        if (!loginRateLimiter.tryAcquire(LoginRateLimiter.Scope.FIND_USERNAME_IP, httpRequest.getRemoteAddr())) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginRateLimiter.retryAfterSeconds()))
+                    .body(ApiResponse.error("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        }
         try {
             String username = userService.findUsernameByEmailAndName(request.getEmail(), request.getName());
             return ResponseEntity.ok(ApiResponse.success(username, "아이디 찾기 성공"));
@@ -0,0 +1,56 @@
+package kr.or.hotelpms.hotel.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class CommentDto {
+
+    // 댓글 트리 노드 (엔티티 대신 필요한 값만 담아 직렬화)
+    // hasMoreReplies가 true면 깊이 제한으로 잘린 것 - /api/comments/{id}/replies 로 이어서 조회
+    @Getter
+    public static class CommentNode {
+        private final Long id;
+        private final Long parentId;
+        private final String username;
+        private final String content;
+        private final LocalDateTime createdAt;
+        private final int depth;
+        private final long replyCount;
+        private final boolean hasMoreReplies;
+        private final List<CommentNode> children = new ArrayList<>();
+
+        public CommentNode(CommentRow row, int maxDepth) {
+            this.id = row.getId();
+            this.parentId = row.getParentId();
+            this.username = row.getUsername();
+            this.content = row.getContent();
+            this.createdAt = row.getCreatedAt();
+            this.depth = row.getDepth();
+            this.replyCount = row.getReplyCount();
+            this.hasMoreReplies = row.getDepth() >= maxDepth && row.getReplyCount() > 0;
+        }
+    }
+
+    // 댓글 한 페이지 (최상위 댓글 기준, nextCursor가 null이면 마지막 페이지)
+    @Getter
+    @AllArgsConstructor
+    public static class CommentPage {
+        private List<CommentNode> content;
+        private Long nextCursor;
+    }
+
+    // 재귀 CTE로 조회한 댓글 한 행 (depth는 조회 시작 댓글 기준 0부터)
+    public interface CommentRow {
+        Long getId();
+        Long getParentId();
+        String getUsername();
+        String getContent();
+        LocalDateTime getCreatedAt();
+        int getDepth();
+        long getReplyCount();
+    }
+}
@@ -13,4 +13,5 @@ public class LoginResponse {
     
     private UserDto user;
     private String token;
+    private String refreshToken;
 }
\ No newline at end of file
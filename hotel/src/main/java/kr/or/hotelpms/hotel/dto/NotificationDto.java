@@ -0,0 +1,47 @@
+package kr.or.hotelpms.hotel.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import kr.or.hotelpms.hotel.model.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class NotificationDto {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class NotificationResponse {
+        private Long id;
+        private String type;
+        private String title;
+        private String message;
+        private boolean read;
+        private LocalDateTime createdAt;
+        private Long relatedId;
+        private String relatedType;
+
+        public NotificationResponse(Notification notification) {
+            this.id = notification.getId();
+            this.type = notification.getType();
+            this.title = notification.getTitle();
+            this.message = notification.getMessage();
+            this.read = notification.isRead();
+            this.createdAt = notification.getCreatedAt();
+            this.relatedId = notification.getRelatedId();
+            this.relatedType = notification.getRelatedType();
+        }
+    }
+
+    // 알림 목록 한 페이지 (nextCursor가 null이면 마지막 페이지)
+    @Getter
+    @AllArgsConstructor
+    public static class NotificationPage {
+        private List<NotificationResponse> content;
+        private long unreadCount;
+        private Long nextCursor;
+    }
+}
@@ -0,0 +1,26 @@
+package kr.or.hotelpms.hotel.dto;
+
+import kr.or.hotelpms.hotel.model.RoomStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// WebSocket(STOMP)으로 내려보내는 실시간 이벤트
+public class PushEventDto {
+
+    // /topic/rooms/status
+    @Getter
+    @AllArgsConstructor
+    public static class RoomStatusEvent {
+        private Long roomId;
+        private String roomNumber;
+        private RoomStatus status;
+    }
+
+    // /user/queue/reservations
+    @Getter
+    @AllArgsConstructor
+    public static class ReservationStatusEvent {
+        private Long reservationId;
+        private String status;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public class ReservationDto {
 
@@ -37,6 +38,14 @@ public class ReservationDto {
         public String getMessage() { return message; }
     }
 
+    // 단체/행사 예약: 같은 기간에 같은 타입 객실 roomCount개를 한 번에 배정
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class BatchReservationRequest extends ReservationRequest {
+        private int roomCount;
+    }
+
         @Getter
     @Setter
     public static class ReservationResponse {
@@ -69,5 +78,56 @@ public class ReservationDto {
             this.status = reservation.getStatus();
             this.message = reservation.getMessage();
         }
+
+        // 조회 전용 프로젝션에서 생성 (연관 엔티티 지연 로딩 없음)
+        public ReservationResponse(ReservationView view) {
+            this.id = view.getId();
+            this.reservationNumber = "RSV-" + String.format("%03d", view.getId());
+            this.guestName = view.getGuestName() != null ? view.getGuestName() : view.getUserName();
+            this.guestPhone = view.getGuestPhone() != null ? view.getGuestPhone() : view.getUserPhone();
+            this.roomId = view.getRoomId();
+            this.roomNumber = view.getRoomNumber();
+            this.roomType = view.getRoomType();
+            this.checkIn = view.getCheckIn();
+            this.checkOut = view.getCheckOut();
+            this.people = view.getPeople();
+            this.paymentStatus = view.getPaymentStatus();
+            this.status = view.getStatus();
+            this.message = view.getMessage();
+        }
+    }
+
+    // 관리자 예약 목록 한 페이지 (nextCursor를 다음 요청의 cursor로 전달, null이면 마지막 페이지)
+    @Getter
+    @AllArgsConstructor
+    public static class ReservationPage {
+        private List<ReservationResponse> items;
+        private Long nextCursor;
+    }
+
+    // 예약 응답에 필요한 컬럼만 예약/고객/객실 조인 한 번으로 조회하는 프로젝션
+    public interface ReservationView {
+        Long getId();
+        String getGuestName();
+        String getGuestPhone();
+        String getUserName();
+        String getUserPhone();
+        Long getRoomId();
+        String getRoomNumber();
+        String getRoomType();
+        LocalDate getCheckIn();
+        LocalDate getCheckOut();
+        int getPeople();
+        String getPaymentStatus();
+        String getStatus();
+        String getMessage();
+    }
+
+    // 예약의 객실/숙박 기간만 담는 조회용 프로젝션
+    public interface StayWindow {
+        Long getId();
+        Long getRoomId();
+        LocalDate getCheckIn();
+        LocalDate getCheckOut();
     }
 }
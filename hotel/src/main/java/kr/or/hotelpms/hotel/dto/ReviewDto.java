@@ -1,9 +1,11 @@
 package kr.or.hotelpms.hotel.dto;
 
 import kr.or.hotelpms.hotel.model.Review;
+import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.List;
 
-public class ReviewDto {
+public class ReviewDto implements Serializable {
     private Long id;
     private String username;
     private String content;
@@ -26,10 +28,27 @@ public class ReviewDto {
         this.likeCount = review.getLikeCount();
         this.createdAt = review.getCreatedAt();
         this.updatedAt = review.getUpdatedAt();
-        this.commentCount = review.getComments() != null ? review.getComments().size() : 0;
+        this.commentCount = review.getCommentCount();
         this.likedByCurrentUser = likedByCurrentUser;
     }
 
+    // 캐시된 DTO를 공유하지 않도록 좋아요 여부만 바꾼 복사본 생성
+    public ReviewDto(ReviewDto source, boolean likedByCurrentUser) {
+        this.id = source.id;
+        this.username = source.username;
+        this.content = source.content;
+        this.rating = source.rating;
+        this.likeCount = source.likeCount;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.commentCount = source.commentCount;
+        this.likedByCurrentUser = likedByCurrentUser;
+    }
+
+    // 캐시에 저장되는 리뷰 목록 한 페이지 (사용자별 좋아요 여부 제외)
+    public record CachedPage(List<ReviewDto> content, long totalElements) implements Serializable {
+    }
+
     // Getters and Setters (JSON 변환에 필수)
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -0,0 +1,28 @@
+package kr.or.hotelpms.hotel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class RoomAvailabilityDto {
+
+    // 객실 타입별 기간 내 숙박일(night)별 빈 방 수
+    @Getter
+    @AllArgsConstructor
+    public static class CalendarResponse {
+        private String roomType;
+        private LocalDate from;     // 첫 숙박일
+        private LocalDate to;       // 마지막 숙박일 다음 날 (체크아웃 기준, 미포함)
+        private long totalRooms;
+        private List<Night> nights;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Night {
+        private LocalDate date;
+        private long availableRooms;
+    }
+}
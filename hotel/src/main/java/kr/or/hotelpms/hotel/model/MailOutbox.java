@@ -0,0 +1,77 @@
+package kr.or.hotelpms.hotel.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (outbox).
+ * 요청 트랜잭션 안에서 템플릿 이름과 변수만 저장하고, 렌더링과 SMTP 발송은 MailOutboxWorker가 백그라운드에서 한다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_status_next", columnList = "status, next_attempt_at")
+})
+public class MailOutbox {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENDING = "SENDING";
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient", nullable = false, length = 100)
+    private String recipient;
+
+    // classpath:mail-templates/{template}.txt
+    @Column(name = "template", nullable = false, length = 50)
+    private String template;
+
+    // 템플릿 변수 (JSON) - 발송 후에는 비움 (임시 비밀번호 등 민감한 내용 보관 방지)
+    @Column(name = "model", columnDefinition = "TEXT CHARACTER SET utf8mb4")
+    private String model;
+
+    // 같은 메일 중복 등록 방지용 키 (체크인 안내 등 배치 발송)
+    @Column(name = "dedupe_key", unique = true, length = 100)
+    private String dedupeKey;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = PENDING; // PENDING, SENDING, SENT, FAILED
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // SENDING 상태의 임대 만료 시각 - 워커가 죽으면 이후 다른 워커가 다시 가져감
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public MailOutbox(String recipient, String template, String model) {
+        this.recipient = recipient;
+        this.template = template;
+        this.model = model;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
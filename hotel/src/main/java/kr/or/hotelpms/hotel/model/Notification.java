@@ -1,9 +1,51 @@
 package kr.or.hotelpms.hotel.model;
 
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 알림 (예약 확정/변경/취소, 리뷰 좋아요, 댓글 등).
+ * 저장은 NotificationService가 모아서 JDBC 배치로 하므로 컬럼명은 INSERT 문과 맞춰야 한다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_id", columnList = "username, id"),
+        @Index(name = "idx_notifications_user_unread", columnList = "username, is_read")
+})
 public class Notification {
-    
-}
 
-// 알림 데이터 엔티티 (푸시 알림 등) //
-// 선택 사항 (필요 시) 만들어야 함 //
-// 난이도: 중급 (JPA 엔티티) //
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "username", nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "type", nullable = false, length = 40)
+    private String type; // RESERVATION_CONFIRMED, RESERVATION_CHANGED, RESERVATION_CANCELLED, REVIEW_LIKED, REVIEW_COMMENTED, COMMENT_REPLIED
+
+    @Column(name = "title", nullable = false, columnDefinition = "VARCHAR(100) CHARACTER SET utf8mb4")
+    private String title;
+
+    @Column(name = "message", columnDefinition = "VARCHAR(500) CHARACTER SET utf8mb4")
+    private String message;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read = false;
+
+    @Column(name = "related_id")
+    private Long relatedId;
+
+    @Column(name = "related_type", length = 20)
+    private String relatedType; // RESERVATION, REVIEW, COMMENT
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
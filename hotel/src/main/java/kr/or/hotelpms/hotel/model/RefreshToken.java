@@ -0,0 +1,60 @@
+package kr.or.hotelpms.hotel.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰. 원문은 저장하지 않고 SHA-256 해시만 보관한다.
+ * 같은 로그인에서 이어진 토큰들은 familyId를 공유하며, 이미 교체된 토큰이 다시 쓰이면 family 전체를 폐기한다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_username", columnList = "username"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "username", nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 교체(rotate)되었거나 로그아웃/강제 만료된 시각
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    // true면 새 토큰으로 교체되어 폐기된 것 (재사용 감지용)
+    @Column(name = "rotated", nullable = false)
+    private boolean rotated = false;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public RefreshToken(String tokenHash, String familyId, String username, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.username = username;
+        this.expiresAt = expiresAt;
+    }
+}
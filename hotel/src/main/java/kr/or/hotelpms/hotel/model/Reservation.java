@@ -16,7 +16,9 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_room_dates", columnList = "room_id, check_in, check_out")
+})
 public class Reservation {
 
     @Id
@@ -8,7 +8,10 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // 보관 정책 정리 작업이 오래된 순으로 훑을 때 사용
+        @Index(name = "idx_reviews_created_at", columnList = "created_at")
+})
 public class Review {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,7 +20,12 @@ public class Review {
     @Column(length = 1000)
     private String content;
     private int rating;
+    // 좋아요 수 (LikeCountBuffer가 모아서 UPDATE - 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(updatable = false)
     private int likeCount = 0;
+    // 댓글 수 (CommentService에서 원자적 UPDATE로만 변경 - 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int commentCount = 0;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -45,6 +53,8 @@ public class Review {
     public void setRating(int rating) { this.rating = rating; }
     public int getLikeCount() { return likeCount; }
     public void setLikeCount(int likeCount) { this.likeCount = likeCount; }
+    public int getCommentCount() { return commentCount; }
+    public void setCommentCount(int commentCount) { this.commentCount = commentCount; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
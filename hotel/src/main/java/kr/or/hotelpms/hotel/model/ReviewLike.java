@@ -3,7 +3,10 @@ package kr.or.hotelpms.hotel.model;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "review_likes")
+@Table(name = "review_likes", uniqueConstraints = {
+        // 사용자당 리뷰 하나에 좋아요 한 번 (토글은 이 제약을 기준으로 삭제/INSERT IGNORE)
+        @UniqueConstraint(name = "uk_review_likes_review_user", columnNames = {"review_id", "username"})
+})
 public class ReviewLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,7 +16,7 @@ public class ReviewLike {
     @JoinColumn(name = "review_id", nullable = false)
     private Review review;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = 50)
     private String username;
 
     public ReviewLike() {
@@ -1,12 +1,66 @@
 package kr.or.hotelpms.hotel.repository;
 
+import kr.or.hotelpms.hotel.dto.CommentDto;
 import kr.or.hotelpms.hotel.model.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    
-    List<Comment> findByReviewIdOrderByCreatedAtAsc(Long reviewId);
-}
\ No newline at end of file
+
+    // 시작 댓글(anchor)부터 maxDepth 단계까지 내려가며 필요한 컬럼만 조회 (깊이, 작성 순)
+    // anchor는 id 오름차순 키셋으로 잘라 페이지 단위로 가져오고, 다음 페이지 확인용 마지막 anchor(rn = limit)는 답글 없이 한 행만
+    String TREE_FROM_ANCHORS =
+            ", tree AS (" +
+            "  SELECT c.id, c.parent_id, c.username, c.content, c.created_at, 0 AS depth, a.rn" +
+            "  FROM comments c JOIN anchors a ON c.id = a.id" +
+            "  UNION ALL" +
+            "  SELECT c.id, c.parent_id, c.username, c.content, c.created_at, t.depth + 1, t.rn" +
+            "  FROM comments c JOIN tree t ON c.parent_id = t.id WHERE t.depth < :maxDepth AND t.rn < :limit" +
+            ") SELECT t.id AS id, t.parent_id AS parentId, t.username AS username, t.content AS content, " +
+            "t.created_at AS createdAt, t.depth AS depth, " +
+            "(SELECT COUNT(*) FROM comments k WHERE k.parent_id = t.id) AS replyCount " +
+            "FROM tree t ORDER BY t.depth, t.id";
+
+    // 리뷰의 최상위 댓글 페이지와 그 답글 (limit = 페이지 크기 + 1)
+    @Query(value = "WITH RECURSIVE anchors AS (" +
+                   "  SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS rn FROM comments" +
+                   "  WHERE review_id = :reviewId AND parent_id IS NULL" +
+                   "  AND (:cursor IS NULL OR id > :cursor) ORDER BY id LIMIT :limit" +
+                   ")" + TREE_FROM_ANCHORS, nativeQuery = true)
+    List<CommentDto.CommentRow> findTreeByReviewId(@Param("reviewId") Long reviewId,
+                                                   @Param("cursor") Long cursor,
+                                                   @Param("limit") int limit,
+                                                   @Param("maxDepth") int maxDepth);
+
+    // 특정 댓글의 답글 페이지와 그 아래 답글 (깊이 제한으로 잘린 부분 이어서 조회)
+    @Query(value = "WITH RECURSIVE anchors AS (" +
+                   "  SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS rn FROM comments WHERE parent_id = :parentId" +
+                   "  AND (:cursor IS NULL OR id > :cursor) ORDER BY id LIMIT :limit" +
+                   ")" + TREE_FROM_ANCHORS, nativeQuery = true)
+    List<CommentDto.CommentRow> findTreeByParentId(@Param("parentId") Long parentId,
+                                                   @Param("cursor") Long cursor,
+                                                   @Param("limit") int limit,
+                                                   @Param("maxDepth") int maxDepth);
+
+    // 리뷰 일괄 삭제용: 같은 문장에서 부모/자식 댓글을 함께 지울 때 FK 검사에 걸리지 않도록 먼저 부모 연결 해제
+    @Modifying
+    @Query("UPDATE Comment c SET c.parent = null WHERE c.review.id IN :reviewIds")
+    int detachByReviewIds(@Param("reviewIds") List<Long> reviewIds);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.review.id IN :reviewIds")
+    int deleteByReviewIds(@Param("reviewIds") List<Long> reviewIds);
+
+    // 댓글과 그 아래 모든 답글 수 (삭제 시 함께 지워지는 개수)
+    @Query(value = "WITH RECURSIVE subtree AS (" +
+                   "  SELECT id FROM comments WHERE id = :id" +
+                   "  UNION ALL" +
+                   "  SELECT c.id FROM comments c JOIN subtree s ON c.parent_id = s.id" +
+                   ") SELECT COUNT(*) FROM subtree", nativeQuery = true)
+    long countSubtree(@Param("id") Long id);
+}
@@ -0,0 +1,38 @@
+package kr.or.hotelpms.hotel.repository;
+
+import kr.or.hotelpms.hotel.model.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송할 메일 잠금 조회 - 다른 워커가 잠근 행은 건너뜀 (여러 노드가 동시에 돌아도 중복 발송 없음)
+    // 임대가 만료된 SENDING 행(발송 중 죽은 워커)도 다시 가져감
+    @Query(value = "SELECT * FROM mail_outbox " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+            "   OR (status = 'SENDING' AND locked_until < :now) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Query("SELECT m.dedupeKey FROM MailOutbox m WHERE m.dedupeKey IN :keys")
+    List<String> findExistingDedupeKeys(@Param("keys") Collection<String> keys);
+
+    // 발송 완료는 발송 시각, 최종 실패는 등록 시각 기준
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE (m.status = 'SENT' AND m.sentAt < :before) " +
+            "OR (m.status = 'FAILED' AND m.createdAt < :before)")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+
+    // 최종 실패 행에 남아 있는 메일 변수 제거
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.model = NULL WHERE m.status = 'FAILED' AND m.model IS NOT NULL")
+    int clearFailedModels();
+}
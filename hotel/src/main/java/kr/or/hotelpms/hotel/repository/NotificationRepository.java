@@ -1,9 +1,33 @@
 package kr.or.hotelpms.hotel.repository;
 
-public class NotificationRepository {
-    
-}
+import kr.or.hotelpms.hotel.model.Notification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 사용자 알림 최신순 (cursor보다 작은 id부터) - (username, id) 인덱스만 타고 내려감
+    @Query("SELECT n FROM Notification n WHERE n.username = :username " +
+           "AND (:cursor IS NULL OR n.id < :cursor) ORDER BY n.id DESC")
+    List<Notification> findPage(@Param("username") String username, @Param("cursor") Long cursor, Limit limit);
 
-// 알림 관련 리포지토리 //
-// 선택 사항 (필요 시) 만들어야 함 //
-// 난이도: 초급 //
+    long countByUsernameAndReadFalse(String username);
+
+    boolean existsByIdAndUsername(Long id, String username);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id = :id AND n.username = :username AND n.read = false")
+    int markRead(@Param("id") Long id, @Param("username") String username);
+
+    // 모두 읽음 - 한 번의 UPDATE
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.username = :username AND n.read = false")
+    int markAllRead(@Param("username") String username);
+}
@@ -1,7 +1,11 @@
 package kr.or.hotelpms.hotel.repository;
 
+import kr.or.hotelpms.hotel.dto.ReservationDto;
 import kr.or.hotelpms.hotel.model.Reservation;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -16,8 +20,65 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             LocalDate checkOut
     );
 
-    List<Reservation> findByUserId(Long userId);
+    List<Reservation> findByRoomIdInAndCheckOutAfterAndCheckInBefore(
+            List<Long> roomIds,
+            LocalDate checkIn,
+            LocalDate checkOut
+    );
+
+    // 예약 응답(ReservationResponse)에 필요한 컬럼만 조인 한 번으로 조회
+    String RESERVATION_VIEW_SELECT =
+            "SELECT r.id AS id, r.guestName AS guestName, r.guestPhone AS guestPhone, " +
+            "u.name AS userName, u.phone AS userPhone, " +
+            "rm.id AS roomId, rm.roomNumber AS roomNumber, rm.roomType AS roomType, " +
+            "r.checkIn AS checkIn, r.checkOut AS checkOut, r.people AS people, " +
+            "r.paymentStatus AS paymentStatus, r.status AS status, r.message AS message " +
+            "FROM Reservation r JOIN r.user u JOIN r.room rm ";
+
+    @Query(RESERVATION_VIEW_SELECT + "WHERE u.id = :userId ORDER BY r.id")
+    List<ReservationDto.ReservationView> findViewsByUserId(@Param("userId") Long userId);
 
     // 특정 날짜에 활성화된 예약 조회 (checkIn <= date < checkOut)
-    List<Reservation> findByCheckInLessThanEqualAndCheckOutAfter(LocalDate checkOutDate, LocalDate checkInDate);
+    @Query(RESERVATION_VIEW_SELECT + "WHERE r.checkIn <= :date AND r.checkOut > :date ORDER BY r.id")
+    List<ReservationDto.ReservationView> findViewsActiveOn(@Param("date") LocalDate date);
+
+    @Query(RESERVATION_VIEW_SELECT + "ORDER BY r.id")
+    List<ReservationDto.ReservationView> findAllViews();
+
+    // 체크인 안내 메일 대상 (사용자/객실 함께 조회)
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.user JOIN FETCH r.room " +
+           "WHERE r.checkIn = :date AND r.status = 'RESERVED'")
+    List<Reservation> findReservedCheckingInOn(@Param("date") LocalDate date);
+
+    // 객실 예약 인덱스 적재용: 지정일 이후 체크아웃하는 예약의 객실/기간만 조회
+    @Query("SELECT r.id AS id, r.room.id AS roomId, r.checkIn AS checkIn, r.checkOut AS checkOut " +
+           "FROM Reservation r WHERE r.checkOut > :from")
+    List<ReservationDto.StayWindow> findStayWindowsCheckingOutAfter(@Param("from") LocalDate from);
+
+    // 객실 타입의 기간 [from, to) 과 겹치는 예약의 객실/기간만 조회 (빈 방 달력용)
+    @Query("SELECT r.id AS id, r.room.id AS roomId, r.checkIn AS checkIn, r.checkOut AS checkOut " +
+           "FROM Reservation r WHERE UPPER(r.room.roomType) = UPPER(:roomType) " +
+           "AND r.checkOut > :from AND r.checkIn < :to")
+    List<ReservationDto.StayWindow> findStayWindowsByRoomType(@Param("roomType") String roomType,
+                                                             @Param("from") LocalDate from,
+                                                             @Param("to") LocalDate to);
+
+    // 관리자 예약 목록 (키셋 페이지네이션): id 내림차순으로 cursor 이전 예약을 조회
+    // 고객/객실 컬럼을 함께 가져와 페이지당 쿼리 한 번으로 처리, 필터는 null이면 적용하지 않음
+    @Query(RESERVATION_VIEW_SELECT +
+           "WHERE (:cursor IS NULL OR r.id < :cursor) " +
+           "AND (:status IS NULL OR r.status = :status) " +
+           "AND (:roomType IS NULL OR UPPER(rm.roomType) = UPPER(:roomType)) " +
+           "AND (:from IS NULL OR r.checkOut > :from) " +
+           "AND (:to IS NULL OR r.checkIn < :to) " +
+           "AND (:guestName IS NULL OR r.guestName LIKE CONCAT('%', :guestName, '%') " +
+           "     OR u.name LIKE CONCAT('%', :guestName, '%')) " +
+           "ORDER BY r.id DESC")
+    List<ReservationDto.ReservationView> findAdminPage(@Param("cursor") Long cursor,
+                                                       @Param("status") String status,
+                                                       @Param("roomType") String roomType,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to,
+                                                       @Param("guestName") String guestName,
+                                                       Limit limit);
 }
@@ -2,6 +2,10 @@ package kr.or.hotelpms.hotel.repository;
 
 import kr.or.hotelpms.hotel.model.ReviewLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -9,6 +13,22 @@ import java.util.Set;
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     Optional<ReviewLike> findByReviewIdAndUsername(Long reviewId, String username);
 
-    // [추가] 여러 리뷰에 대한 '좋아요' 상태를 한 번에 조회하기 위한 메소드
-    Set<ReviewLike> findByReviewIdInAndUsername(List<Long> reviewIds, String username);
-}
\ No newline at end of file
+    // 좋아요 취소 - 지운 행 수로 기존 상태를 알 수 있음
+    @Modifying
+    @Query(value = "DELETE FROM review_likes WHERE review_id = :reviewId AND username = :username", nativeQuery = true)
+    int deleteLike(@Param("reviewId") Long reviewId, @Param("username") String username);
+
+    // 좋아요 추가 - 동시에 같은 요청이 들어와도 유니크 제약으로 한 건만 들어감 (들어간 행 수 반환)
+    // IGNORE는 리뷰가 삭제된 경우의 FK 오류도 0건으로 바꾸므로, 0이면 호출하는 쪽에서 리뷰 존재 여부를 확인
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_likes (review_id, username) VALUES (:reviewId, :username)", nativeQuery = true)
+    int insertLikeIfAbsent(@Param("reviewId") Long reviewId, @Param("username") String username);
+
+    @Modifying
+    @Query("DELETE FROM ReviewLike l WHERE l.review.id IN :reviewIds")
+    int deleteByReviewIds(@Param("reviewIds") List<Long> reviewIds);
+
+    // 페이지의 리뷰 중 사용자가 좋아요한 리뷰 id만 조회 (엔티티 생성 없이 쿼리 한 번)
+    @Query("SELECT l.review.id FROM ReviewLike l WHERE l.review.id IN :reviewIds AND l.username = :username")
+    Set<Long> findLikedReviewIds(@Param("reviewIds") List<Long> reviewIds, @Param("username") String username);
+}
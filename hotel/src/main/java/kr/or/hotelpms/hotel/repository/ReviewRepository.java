@@ -2,10 +2,45 @@ package kr.or.hotelpms.hotel.repository;
 
 import kr.or.hotelpms.hotel.model.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.util.Optional;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    Optional<Review> findFirstByOrderByCreatedAtAsc();
-}
\ No newline at end of file
+    // 보관 정책 정리 대상: 기준 시각 이전에 작성된 리뷰 (오래된 순, created_at 인덱스 사용)
+    @Query(value = "SELECT id FROM reviews WHERE created_at < :cutoff ORDER BY created_at, id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 보관 정책 정리 대상: 최신 keep개를 넘는 리뷰 (created_at 인덱스를 역순으로 건너뛰며 조회)
+    @Query(value = "SELECT id FROM reviews ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :keep",
+           nativeQuery = true)
+    List<Long> findIdsBeyondNewest(@Param("keep") int keep, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // 댓글 수 원자적 증감 (동시에 달린 댓글도 누락 없이 반영)
+    @Modifying
+    @Query("UPDATE Review r SET r.commentCount = r.commentCount + :delta WHERE r.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 댓글 수가 어긋난 리뷰만 id 구간 단위로 보정 (컬럼 추가 전 데이터 채우기 - 구간마다 짧은 트랜잭션으로 커밋)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE reviews r LEFT JOIN (SELECT review_id, COUNT(*) AS cnt FROM comments " +
+                   "WHERE review_id BETWEEN :fromId AND :toId GROUP BY review_id) c ON c.review_id = r.id " +
+                   "SET r.comment_count = COALESCE(c.cnt, 0) " +
+                   "WHERE r.id BETWEEN :fromId AND :toId AND r.comment_count <> COALESCE(c.cnt, 0)", nativeQuery = true)
+    int recountCommentsBetween(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM Review r")
+    long findMaxId();
+}
@@ -2,10 +2,17 @@ package kr.or.hotelpms.hotel.repository;
 
 import kr.or.hotelpms.hotel.model.Room;
 import kr.or.hotelpms.hotel.model.RoomStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +29,37 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     List<Room> findByPriceBetween(BigDecimal min, BigDecimal max);
 
      Optional<Room> findByRoomNumber(String roomNumber);
+
+    // 해당 기간에 겹치는 예약이 없는 객실을 객실 번호 숫자 순으로 최대 limit개
+    @Query(value = "SELECT r.* FROM rooms r " +
+                   "WHERE UPPER(r.room_type) = UPPER(:roomType) " +
+                   "AND NOT EXISTS (SELECT 1 FROM reservations res WHERE res.room_id = r.id " +
+                   "AND res.check_out > :checkIn AND res.check_in < :checkOut) " +
+                   "ORDER BY CAST(r.room_number AS UNSIGNED), r.room_number LIMIT :limit", nativeQuery = true)
+    List<Room> findAvailableByType(@Param("roomType") String roomType,
+                                   @Param("checkIn") LocalDate checkIn,
+                                   @Param("checkOut") LocalDate checkOut,
+                                   @Param("limit") int limit);
+
+    // 해당 기간에 겹치는 예약이 없는 첫 번째 객실 (객실 번호 숫자 순)
+    default Optional<Room> findFirstAvailableByType(String roomType, LocalDate checkIn, LocalDate checkOut) {
+        return findAvailableByType(roomType, checkIn, checkOut, 1).stream().findFirst();
+    }
+
+    // 예약 생성/변경 시 객실 단위 직렬화를 위한 행 잠금 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT r FROM Room r WHERE r.id = :id")
+    Optional<Room> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT r FROM Room r WHERE r.roomNumber = :roomNumber")
+    Optional<Room> findByRoomNumberForUpdate(@Param("roomNumber") String roomNumber);
+
+    // 여러 객실을 id 순으로 잠금 (잠금 순서를 고정해 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT r FROM Room r WHERE r.id IN :ids ORDER BY r.id")
+    List<Room> findAllByIdInForUpdate(@Param("ids") List<Long> ids);
 }
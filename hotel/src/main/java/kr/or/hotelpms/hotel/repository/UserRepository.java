@@ -1,9 +1,11 @@
 package kr.or.hotelpms.hotel.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import kr.or.hotelpms.hotel.model.User;
 
 import java.time.LocalDateTime;
@@ -34,4 +36,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 탈퇴 후 3일 지난 사용자 찾기 (삭제 대상)
     @Query("SELECT u FROM User u WHERE u.enabled = false AND u.deletedAt IS NOT NULL AND u.deletedAt <= :cutoffDate")
     List<User> findUsersToDelete(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    // 로그인 시 재해시 - 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
\ No newline at end of file
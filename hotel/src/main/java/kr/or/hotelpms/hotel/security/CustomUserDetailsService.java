@@ -1,7 +1,10 @@
 package kr.or.hotelpms.hotel.security;
 
+import jakarta.annotation.PostConstruct;
+import kr.or.hotelpms.hotel.config.CacheConfig;
 import kr.or.hotelpms.hotel.model.User;
 import kr.or.hotelpms.hotel.repository.UserRepository;
+import kr.or.hotelpms.hotel.service.CacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,14 +22,50 @@ import java.util.stream.Collectors;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final CacheService cacheService;
+    private final UserDetailsCache userDetailsCache;
 
+    // 공유 캐시 무효화(비밀번호/탈퇴/권한 변경)를 로컬 캐시에도 반영
+    @PostConstruct
+    void registerCacheInvalidation() {
+        cacheService.onInvalidate(CacheConfig.USER_DETAILS, username -> {
+            if (CacheService.ALL_KEYS.equals(username)) {
+                userDetailsCache.clear();
+            } else {
+                userDetailsCache.evict(username);
+            }
+        });
+    }
+
+    // JWT 인증 필터용 조회 - 로컬 캐시 -> 공유 캐시 -> DB 순으로 확인
+    // 공유 캐시(Redis)와 로컬 캐시에는 비밀번호를 지운 사본만 저장
+    public UserDetails loadUserForRequest(String username) {
+        UserDetails cached = userDetailsCache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetails loaded = cacheService.getOrLoad(CacheConfig.USER_DETAILS, username,
+                () -> withoutPassword(createUserDetails(findUser(username))));
+        userDetailsCache.put(loaded);
+        return loaded;
+    }
+
+    // 로그인(비밀번호 검증)용 조회 - 비밀번호 해시가 필요하므로 캐시를 거치지 않고 DB에서 직접 조회
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        return createUserDetails(findUser(username));
+    }
+
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+    }
 
-        return createUserDetails(user);
+    private UserDetails withoutPassword(UserDetails userDetails) {
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password("")
+                .build();
     }
 
     private UserDetails createUserDetails(User user) {
@@ -1,11 +1,14 @@
 package kr.or.hotelpms.hotel.security;
 
 import java.io.IOException;
+import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -13,6 +16,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import kr.or.hotelpms.hotel.util.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +32,11 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
+
+    // true면 DB 조회 없이 토큰의 role 클레임으로 인증 (탈퇴/권한 변경은 토큰 만료 후 반영)
+    @Value("${jwt.claims-only-auth:false}")
+    private boolean claimsOnlyAuth;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, 
@@ -39,27 +48,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
             log.debug("Request URL: {}, JWT Token: {}", request.getRequestURI(), jwt != null ? "present" : "null");
             
-            if (StringUtils.hasText(jwt) && jwtUtil.canTokenBeParsed(jwt)) {
+            // 서명/만료 검증을 포함해 토큰은 한 번만 파싱
+            Claims claims = StringUtils.hasText(jwt) ? jwtUtil.parseVerifiedClaims(jwt).orElse(null) : null;
+            if (claims != null) {
                 // 토큰에서 사용자명 추출
-                String username = jwtUtil.getUsernameFromToken(jwt);
+                String username = claims.getSubject();
                 log.debug("Username from token: {}", username);
                 
-                // 토큰 유효성 검증
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                    UserDetails userDetails = claimsOnlyAuth
+                            ? userFromClaims(username, claims.get("role", String.class))
+                            : userDetailsService.loadUserForRequest(username);
                     log.debug("UserDetails loaded: {}", userDetails.getUsername());
                     
-                    if (jwtUtil.validateToken(jwt, username)) {
-                        // 인증 객체 생성 및 SecurityContext에 설정
-                        UsernamePasswordAuthenticationToken authentication = 
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                        log.debug("JWT 토큰으로 사용자 '{}' 인증 완료", username);
-                    } else {
-                        log.debug("Token validation failed for user: {}", username);
-                    }
+                    // 인증 객체 생성 및 SecurityContext에 설정
+                    UsernamePasswordAuthenticationToken authentication = 
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("JWT 토큰으로 사용자 '{}' 인증 완료", username);
                 } else {
                     log.debug("Username is null or authentication already exists");
                 }
@@ -75,6 +83,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 토큰의 role 클레임으로 principal 구성 (ADMIN은 USER 권한도 가짐 - DB의 관리자 계정과 동일)
+    static UserDetails userFromClaims(String username, String role) {
+        List<SimpleGrantedAuthority> authorities = "ADMIN".equals(role)
+                ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER"))
+                : List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return User.withUsername(username)
+                .password("")
+                .authorities(authorities)
+                .build();
+    }
+
     /**
      * HTTP 요청에서 Authorization 헤더로부터 JWT 토큰 추출
      * Authorization: Bearer <token> 형태에서 토큰 부분만 추출
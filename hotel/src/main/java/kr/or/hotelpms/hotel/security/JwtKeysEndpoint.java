@@ -0,0 +1,34 @@
+package kr.or.hotelpms.hotel.security;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 키 링 조회/재적재 (/actuator/jwtkeys, 관리자 전용).
+ * 키 교체 시 jwt.signing.key-dir의 키 파일을 바꾼 뒤 POST로 호출하면 재시작 없이 새 키 링을 적용하고 검증 캐시를 비운다.
+ * key-dir가 없거나 임시 키를 쓰는 중이면 아무것도 바꾸지 않는다.
+ */
+@Component
+@Endpoint(id = "jwtkeys")
+@RequiredArgsConstructor
+public class JwtKeysEndpoint {
+
+    private final JwtProvider jwtProvider;
+
+    @ReadOperation
+    public Map<String, Object> keys() {
+        return jwtProvider.jwks();
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        boolean reloaded = jwtProvider.reload();
+        return Map.of("reloaded", reloaded, "keys", jwtProvider.jwks().get("keys"));
+    }
+}
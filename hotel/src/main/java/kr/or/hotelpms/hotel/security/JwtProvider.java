@@ -1,13 +1,277 @@
 package kr.or.hotelpms.hotel.security;
 
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import kr.or.hotelpms.hotel.config.JwtConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비대칭 키(ES256/RS256) JWT 서명/검증 키 관리.
+ * kid별 공개키를 시작 시 파싱해 보관하고, 토큰 헤더의 kid로 검증 키를 찾는다.
+ * 공개키는 /api/auth/jwks 로 노출되어 다른 서비스가 비밀키 없이 토큰을 검증할 수 있다.
+ * jwt.signing.key-dir의 키 파일은 reload()로 재시작 없이 다시 읽고, 바뀌면 등록된 리스너(검증 캐시 등)에 알린다.
+ * 키를 하나도 설정하지 않으면 임시 키 쌍을 만들고(단일 노드 개발용), 공개키만 있으면 검증 전용 노드로 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
 public class JwtProvider {
-    
-}
 
-// JWT 생성, 파싱, 검증 로직 //
-// 권장 (필수는 아님) - 필요 시 JWT 관련 유틸리티 클래스를 정의할 수 있음 //
-// 난이도: 중급~상급 (JWT 생성/검증) //
+    private static final String PUBLIC_KEY_SUFFIX = ".pub.pem";
+    private static final String PRIVATE_KEY_SUFFIX = ".key.pem";
+    private static final String ACTIVE_KID_FILE = "active-kid";
+
+    private final JwtConfig jwtConfig;
+
+    // 현재 키 링 (교체는 참조 한 번으로 원자적으로)
+    private volatile KeyRing keyRing;
+    private final List<Runnable> keyRingListeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void init() {
+        keyRing = load(jwtConfig);
+    }
+
+    // key-dir의 키 파일을 다시 읽어 키 링 교체 후 리스너에 알림 (false면 다시 읽을 키가 없어 그대로 둠)
+    public synchronized boolean reload() {
+        if (keyRing.ephemeral()) {
+            // 임시 키를 새로 만들면 발급한 토큰이 모두 무효가 되므로 유지
+            log.warn("임시 JWT 키를 사용 중이라 재적재하지 않습니다. jwt.signing.key-dir 또는 jwt.signing.keys를 설정하세요.");
+            return false;
+        }
+        if (!StringUtils.hasText(jwtConfig.getKeyDir())) {
+            log.warn("jwt.signing.key-dir가 없어 다시 읽을 키가 없습니다. 설정 속성의 키는 재시작해야 바뀝니다.");
+            return false;
+        }
+        keyRing = load(jwtConfig);
+        keyRingListeners.forEach(Runnable::run);
+        return true;
+    }
+
+    // 키 링이 바뀔 때 호출할 리스너 등록
+    public void onKeyRingChange(Runnable listener) {
+        keyRingListeners.add(listener);
+    }
+
+    private KeyRing load(JwtConfig jwtConfig) {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(jwtConfig.getAlgorithm().toUpperCase());
+        if (algorithm.isHmac()) {
+            return new KeyRing(algorithm, Map.of(), null, null, false, false, null);
+        }
+        if (!algorithm.isEllipticCurve() && !algorithm.isRsa()) {
+            throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다: " + algorithm);
+        }
+
+        String keyAlgorithm = algorithm.getFamilyName().equals("ECDSA") ? "EC" : "RSA";
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        Map<String, PrivateKey> privateKeys = new LinkedHashMap<>();
+        String activeKid = jwtConfig.getActiveKid();
+        boolean ephemeral = false;
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm);
+            Map<String, JwtConfig.Key> configured = new LinkedHashMap<>();
+            jwtConfig.getKeys().forEach(key -> configured.put(key.getKid(), key));
+            if (StringUtils.hasText(jwtConfig.getKeyDir())) {
+                Path dir = Path.of(jwtConfig.getKeyDir());
+                configured.putAll(readKeyDir(dir));
+                String fileKid = readActiveKid(dir);
+                if (fileKid != null) {
+                    activeKid = fileKid;
+                }
+            }
+            for (JwtConfig.Key key : configured.values()) {
+                keys.put(key.getKid(), keyFactory.generatePublic(new X509EncodedKeySpec(pemBody(key.getPublicKey()))));
+                if (StringUtils.hasText(key.getPrivateKey())) {
+                    privateKeys.put(key.getKid(),
+                            keyFactory.generatePrivate(new PKCS8EncodedKeySpec(pemBody(key.getPrivateKey()))));
+                }
+            }
+            if (keys.isEmpty()) {
+                // 키를 하나도 설정하지 않은 단일 노드 개발 환경용 - 재시작하면 기존 토큰은 모두 무효
+                KeyPair generated = generateKeyPair(algorithm, keyAlgorithm);
+                String kid = "ephemeral-" + UUID.randomUUID().toString().substring(0, 8);
+                keys.put(kid, generated.getPublic());
+                privateKeys.put(kid, generated.getPrivate());
+                ephemeral = true;
+                log.warn("JWT 서명 키가 설정되지 않아 임시 키({})를 생성했습니다. 여러 노드로 운영할 때는 jwt.signing.keys를 설정하세요.", kid);
+            }
+        } catch (GeneralSecurityException | IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 서명 키를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+
+        PrivateKey activePrivateKey = null;
+        if (StringUtils.hasText(activeKid)) {
+            activePrivateKey = privateKeys.get(activeKid);
+            if (activePrivateKey == null) {
+                throw new IllegalStateException("active-kid에 해당하는 개인키가 없습니다: " + activeKid);
+            }
+        } else if (!privateKeys.isEmpty()) {
+            activeKid = privateKeys.keySet().iterator().next();
+            activePrivateKey = privateKeys.get(activeKid);
+        }
+        if (activePrivateKey == null) {
+            log.warn("JWT 개인키가 없어 검증 전용으로 동작합니다 (토큰 발급 불가, 공개키 {}개).", keys.size());
+        } else {
+            log.info("JWT {} 키 {}개 적재 (서명 kid={})", algorithm, keys.size(), activeKid);
+        }
+        if (jwtConfig.isAcceptLegacyHs512()) {
+            log.warn("kid 없는 기존 HS512 토큰도 받습니다 (마감: {}). 전환이 끝나면 jwt.signing.accept-legacy-hs512를 끄세요.",
+                    jwtConfig.getLegacyHs512Until() != null ? jwtConfig.getLegacyHs512Until() : "없음");
+        }
+        return new KeyRing(algorithm, Map.copyOf(keys), activeKid, activePrivateKey, ephemeral,
+                jwtConfig.isAcceptLegacyHs512(), jwtConfig.getLegacyHs512Until());
+    }
 
-// 백앤드 - 보안 및 인증 관련
-// JWT 토큰 생성, 검증 기능
-// 로그인 성공 시 토큰 발급
\ No newline at end of file
+    // <kid>.pub.pem / <kid>.key.pem 파일을 kid 순서대로 (개인키 파일만 있는 kid는 무시)
+    private static Map<String, JwtConfig.Key> readKeyDir(Path dir) throws IOException {
+        Map<String, JwtConfig.Key> keys = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + PUBLIC_KEY_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                JwtConfig.Key key = new JwtConfig.Key();
+                key.setKid(name.substring(0, name.length() - PUBLIC_KEY_SUFFIX.length()));
+                key.setPublicKey(Files.readString(file, StandardCharsets.US_ASCII));
+                Path privateKeyFile = dir.resolve(key.getKid() + PRIVATE_KEY_SUFFIX);
+                if (Files.isReadable(privateKeyFile)) {
+                    key.setPrivateKey(Files.readString(privateKeyFile, StandardCharsets.US_ASCII));
+                }
+                keys.put(key.getKid(), key);
+            }
+        }
+        return keys;
+    }
+
+    private static String readActiveKid(Path dir) throws IOException {
+        Path file = dir.resolve(ACTIVE_KID_FILE);
+        if (!Files.isReadable(file)) {
+            return null;
+        }
+        String kid = Files.readString(file, StandardCharsets.UTF_8).strip();
+        return kid.isEmpty() ? null : kid;
+    }
+
+    // 비대칭 키로 서명하는지 여부 (false면 기존 HS512 공유 비밀키 사용)
+    public boolean isEnabled() {
+        return !keyRing.algorithm().isHmac();
+    }
+
+    // 비대칭 키 사용 중 kid 없는 기존 HS512 토큰을 받을지 여부 (설정으로 허용했고 마감 전일 때만)
+    public boolean acceptsLegacyHs512() {
+        KeyRing current = keyRing;
+        return current.acceptLegacyHs512()
+                && (current.legacyHs512Until() == null || Instant.now().isBefore(current.legacyHs512Until()));
+    }
+
+    // 현재 서명 키로 서명하고 헤더에 kid 기록
+    public JwtBuilder sign(JwtBuilder builder) {
+        KeyRing current = keyRing;
+        if (current.activePrivateKey() == null) {
+            throw new IllegalStateException("서명용 개인키가 없는 검증 전용 노드라 토큰을 발급할 수 없습니다.");
+        }
+        return builder.setHeaderParam("kid", current.activeKid())
+                .signWith(current.activePrivateKey(), current.algorithm());
+    }
+
+    // kid로 검증 키 조회
+    public PublicKey publicKey(String kid) {
+        PublicKey key = keyRing.publicKeys().get(kid);
+        if (key == null) {
+            throw new JwtException("알 수 없는 서명 키입니다: " + kid);
+        }
+        return key;
+    }
+
+    // 공개키 목록 (RFC 7517 JWK Set)
+    public Map<String, Object> jwks() {
+        KeyRing current = keyRing;
+        List<Map<String, Object>> keys = new ArrayList<>();
+        current.publicKeys().forEach((kid, key) -> keys.add(toJwk(current.algorithm(), kid, key)));
+        return Map.of("keys", keys);
+    }
+
+    private Map<String, Object> toJwk(SignatureAlgorithm algorithm, String kid, PublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        if (key instanceof ECPublicKey ec) {
+            int size = (ec.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-" + ec.getParams().getCurve().getField().getFieldSize());
+            jwk.put("x", base64Url(ec.getW().getAffineX(), size));
+            jwk.put("y", base64Url(ec.getW().getAffineY(), size));
+        } else if (key instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsa.getModulus(), (rsa.getModulus().bitLength() + 7) / 8));
+            jwk.put("e", base64Url(rsa.getPublicExponent(), (rsa.getPublicExponent().bitLength() + 7) / 8));
+        }
+        return jwk;
+    }
+
+    private KeyPair generateKeyPair(SignatureAlgorithm algorithm, String keyAlgorithm) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm);
+        generator.initialize(keyAlgorithm.equals("EC") ? algorithm.getMinKeyLength() : 2048);
+        return generator.generateKeyPair();
+    }
+
+    // PEM 헤더/공백 제거 후 DER 바이트로 변환
+    private static byte[] pemBody(String pem) {
+        if (!StringUtils.hasText(pem)) {
+            throw new IllegalArgumentException("공개키가 비어 있습니다.");
+        }
+        String body = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+
+    // 부호 바이트를 제거한 고정 길이 big-endian 값의 base64url 인코딩
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > length) {
+            bytes = Arrays.copyOfRange(bytes, bytes.length - length, bytes.length);
+        } else if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 서명 알고리즘 + kid별 공개키 + 현재 서명 키 (HS512/검증 전용이면 없음) + 임시 키 여부 + 기존 HS512 토큰 허용 설정
+    private record KeyRing(SignatureAlgorithm algorithm, Map<String, PublicKey> publicKeys,
+                           String activeKid, PrivateKey activePrivateKey, boolean ephemeral,
+                           boolean acceptLegacyHs512, Instant legacyHs512Until) {
+    }
+}
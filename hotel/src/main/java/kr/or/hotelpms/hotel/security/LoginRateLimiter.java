@@ -0,0 +1,209 @@
+package kr.or.hotelpms.hotel.security;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인/계정 찾기 요청 횟수 제한 (1분 슬라이딩 윈도우).
+ * 직전 윈도우 횟수를 경과 비율만큼 가중해 현재 윈도우 횟수와 합산하는 근사 방식이며,
+ * 거절은 비밀번호 해시나 DB 조회 전에 일어나므로 비용이 거의 없다.
+ * 요청 수 제한(tryAcquire)과 실패 횟수 제한(isBlocked/recordFailure/reset) 두 가지로 쓰며,
+ * 어느 쪽이든 거절된 요청은 횟수에 넣지 않는다 (로컬/Redis 동일).
+ * 로컬 카운터는 CAS로만 갱신하고(락 없음) 키 수 상한을 넘으면 오래 쓰이지 않은 키부터 버리며,
+ * hotel.cache.redis.enabled=true면 노드 간에 Redis 카운터를 공유한다.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    // 한도 확인과 증가를 한 번에 (KEYS: 현재/직전 윈도우, ARGV: 직전 윈도우 가중치, 한도(-1 = 무제한), TTL)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local limit = tonumber(ARGV[2])
+            if limit >= 0 and previous * tonumber(ARGV[1]) + current + 1 > limit then
+                return 0
+            end
+            if redis.call('INCR', KEYS[1]) == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    public enum Scope {
+        // 사용자명+IP별 로그인 실패 (성공하면 초기화) - 다른 곳에서 틀린 비밀번호로 계정을 잠글 수 없게 IP까지 키에 포함
+        LOGIN_FAILURE(10),
+        LOGIN_IP(30),
+        FIND_PASSWORD_IP(5),
+        FIND_USERNAME_IP(10);
+
+        private final int limitPerWindow;
+
+        Scope(int limitPerWindow) {
+            this.limitPerWindow = limitPerWindow;
+        }
+    }
+
+    // 두 윈도우 동안 쓰이지 않은 키는 자동 만료, 상한을 넘으면 빈도/최근성 기준으로 제거 (요청 경로에서 전체 순회 없음)
+    private final Cache<String, AtomicReference<Window>> windows;
+    private final boolean redisEnabled;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    public LoginRateLimiter(@Value("${security.rate-limit.max-keys:100000}") int maxKeys,
+                            @Value("${hotel.cache.redis.enabled:false}") boolean redisEnabled,
+                            ObjectProvider<StringRedisTemplate> redisTemplate) {
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(WINDOW_MILLIS * 2))
+                .build();
+        this.redisEnabled = redisEnabled;
+        this.redisTemplate = redisTemplate;
+    }
+
+    // 요청 수 제한 - 허용이면 횟수를 기록하고 true, 한도를 넘었으면 false
+    public boolean tryAcquire(Scope scope, String key) {
+        if (key == null || key.isBlank()) {
+            return true;
+        }
+        return increment(scope.name() + ":" + key, scope.limitPerWindow);
+    }
+
+    // 실패 횟수 제한 - 이미 한도에 도달해 다음 시도를 받지 않아야 하면 true (기록하지 않음)
+    public boolean isBlocked(Scope scope, String key) {
+        if (key == null || key.isBlank()) {
+            return false;
+        }
+        String windowKey = scope.name() + ":" + key;
+        long now = System.currentTimeMillis();
+        if (redisEnabled) {
+            try {
+                return isBlockedShared(scope, windowKey, now);
+            } catch (RuntimeException e) {
+                log.warn("Redis 요청 제한 카운터 사용 실패, 로컬 카운터로 대체: {}", e.getMessage());
+            }
+        }
+        AtomicReference<Window> ref = windows.getIfPresent(windowKey);
+        if (ref == null) {
+            return false;
+        }
+        Window rolled = ref.get().rollTo(now / WINDOW_MILLIS);
+        return estimate(rolled.previous(), rolled.current(), now) + 1 > scope.limitPerWindow;
+    }
+
+    // 실패 1회 기록
+    public void recordFailure(Scope scope, String key) {
+        if (key != null && !key.isBlank()) {
+            increment(scope.name() + ":" + key, -1);
+        }
+    }
+
+    // 성공 시 실패 기록 초기화
+    public void reset(Scope scope, String key) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+        String windowKey = scope.name() + ":" + key;
+        windows.invalidate(windowKey);
+        if (redisEnabled) {
+            try {
+                long index = System.currentTimeMillis() / WINDOW_MILLIS;
+                redisTemplate.getObject().delete(List.of(sharedKey(windowKey, index), sharedKey(windowKey, index - 1)));
+            } catch (RuntimeException e) {
+                log.warn("Redis 요청 제한 카운터 초기화 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 다음 요청이 허용될 때까지 대략적인 대기 시간(초) - Retry-After 헤더용
+    public long retryAfterSeconds() {
+        return Math.max(1, (WINDOW_MILLIS - System.currentTimeMillis() % WINDOW_MILLIS) / 1000);
+    }
+
+    // limit < 0 이면 한도 확인 없이 기록만
+    private boolean increment(String windowKey, int limit) {
+        long now = System.currentTimeMillis();
+        if (redisEnabled) {
+            try {
+                return incrementShared(windowKey, limit, now);
+            } catch (RuntimeException e) {
+                log.warn("Redis 요청 제한 카운터 사용 실패, 로컬 카운터로 대체: {}", e.getMessage());
+            }
+        }
+        return incrementLocal(windowKey, limit, now);
+    }
+
+    private boolean incrementLocal(String windowKey, int limit, long now) {
+        long index = now / WINDOW_MILLIS;
+        AtomicReference<Window> ref = windows.get(windowKey, k -> new AtomicReference<>(new Window(index, 0, 0)));
+        while (true) {
+            Window current = ref.get();
+            Window rolled = current.rollTo(index);
+            if (limit >= 0 && estimate(rolled.previous(), rolled.current(), now) + 1 > limit) {
+                return false;
+            }
+            if (ref.compareAndSet(current, new Window(index, rolled.current() + 1, rolled.previous()))) {
+                return true;
+            }
+        }
+    }
+
+    private boolean incrementShared(String windowKey, int limit, long now) {
+        long index = now / WINDOW_MILLIS;
+        Long allowed = redisTemplate.getObject().execute(INCREMENT_SCRIPT,
+                List.of(sharedKey(windowKey, index), sharedKey(windowKey, index - 1)),
+                String.valueOf(previousWeight(now)), String.valueOf(limit), String.valueOf(WINDOW_MILLIS * 2));
+        return allowed == null || allowed == 1;
+    }
+
+    private boolean isBlockedShared(Scope scope, String windowKey, long now) {
+        long index = now / WINDOW_MILLIS;
+        List<String> values = redisTemplate.getObject().opsForValue()
+                .multiGet(List.of(sharedKey(windowKey, index), sharedKey(windowKey, index - 1)));
+        int current = values == null || values.get(0) == null ? 0 : Integer.parseInt(values.get(0));
+        int previous = values == null || values.get(1) == null ? 0 : Integer.parseInt(values.get(1));
+        return estimate(previous, current, now) + 1 > scope.limitPerWindow;
+    }
+
+    // 클러스터에서도 두 윈도우 키가 같은 슬롯에 오도록 해시 태그 사용
+    private static String sharedKey(String windowKey, long index) {
+        return "hotel:rate:{" + windowKey + "}:" + index;
+    }
+
+    // 직전 윈도우 횟수 * (현재 윈도우에서 남은 비율) + 현재 윈도우 횟수
+    private static double estimate(int previous, int current, long now) {
+        return previous * previousWeight(now) + current;
+    }
+
+    private static double previousWeight(long now) {
+        return 1.0 - (double) (now % WINDOW_MILLIS) / WINDOW_MILLIS;
+    }
+
+    private record Window(long index, int current, int previous) {
+
+        Window rollTo(long newIndex) {
+            if (newIndex <= index) {
+                return this;
+            }
+            if (newIndex == index + 1) {
+                return new Window(newIndex, 0, current);
+            }
+            return new Window(newIndex, 0, 0);
+        }
+    }
+}
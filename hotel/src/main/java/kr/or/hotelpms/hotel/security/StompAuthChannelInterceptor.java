@@ -0,0 +1,100 @@
+package kr.or.hotelpms.hotel.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.jsonwebtoken.Claims;
+import kr.or.hotelpms.hotel.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더로 JWT 인증.
+ * 토큰을 URL(?token=)에 싣지 않으므로 접근 로그/프록시 로그에 남지 않는다.
+ * 액세스 토큰을 재발급받은 클라이언트는 Authorization 헤더를 붙인 SEND 프레임을 {@link #TOKEN_DESTINATION}으로 보내
+ * 연결을 유지한 채 만료 시각을 늘린다. 인증 이후의 프레임은 토큰 만료 전까지만 받고, 만료된 세션은
+ * {@link WebSocketSessionRegistry}가 닫는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    // 연결 중 토큰 갱신 경로 (브로커로 전달하지 않고 여기서 처리)
+    public static final String TOKEN_DESTINATION = "/app/token";
+
+    private final JwtUtil jwtUtil;
+    private final CustomUserDetailsService userDetailsService;
+    private final WebSocketSessionRegistry sessionRegistry;
+
+    // HTTP 인증 필터와 같은 설정 - false면 접속 시점의 DB 권한/탈퇴 여부로 인증
+    @Value("${jwt.claims-only-auth:false}")
+    private boolean claimsOnlyAuth;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        StompCommand command = accessor.getCommand();
+        if (StompCommand.CONNECT.equals(command) || StompCommand.STOMP.equals(command)) {
+            authenticate(accessor);
+        } else if (StompCommand.SEND.equals(command) && TOKEN_DESTINATION.equals(accessor.getDestination())) {
+            reauthenticate(accessor);
+            return null;
+        } else if (!StompCommand.DISCONNECT.equals(command) && sessionRegistry.isExpired(accessor.getSessionId())) {
+            throw new MessageDeliveryException("인증이 만료되었습니다. 다시 접속하세요.");
+        }
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        Claims claims = verifiedClaims(accessor);
+
+        String username = claims.getSubject();
+        UserDetails user = claimsOnlyAuth
+                ? JwtAuthenticationFilter.userFromClaims(username, claims.get("role", String.class))
+                : userDetailsService.loadUserForRequest(username);
+        if (!user.isEnabled()) {
+            throw new MessageDeliveryException("비활성화된 계정입니다.");
+        }
+        if (!sessionRegistry.authenticated(accessor.getSessionId(), username, claims.getExpiration().toInstant())) {
+            throw new MessageDeliveryException("이미 종료된 연결입니다.");
+        }
+        accessor.setUser(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    // 같은 사용자의 새 토큰이면 만료 시각만 연장 (권한 변경은 세션 종료로 반영되므로 principal은 그대로)
+    private void reauthenticate(StompHeaderAccessor accessor) {
+        Claims claims = verifiedClaims(accessor);
+        if (!sessionRegistry.reauthenticated(accessor.getSessionId(), claims.getSubject(),
+                claims.getExpiration().toInstant())) {
+            throw new MessageDeliveryException("이 연결의 사용자 토큰이 아닙니다.");
+        }
+    }
+
+    private Claims verifiedClaims(StompHeaderAccessor accessor) {
+        String token = resolveToken(accessor.getFirstNativeHeader("Authorization"));
+        Claims claims = token != null ? jwtUtil.parseVerifiedClaims(token).orElse(null) : null;
+        if (claims == null || claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new MessageDeliveryException("유효한 토큰이 필요합니다.");
+        }
+        return claims;
+    }
+
+    private String resolveToken(String bearerToken) {
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
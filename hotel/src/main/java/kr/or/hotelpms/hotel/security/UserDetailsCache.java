@@ -0,0 +1,46 @@
+package kr.or.hotelpms.hotel.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * JWT 인증 필터용 UserDetails 로컬 캐시.
+ * 요청 스레드가 동시에 읽고 쓰므로 전역 락 없이 동작하는 Caffeine 캐시를 쓴다.
+ * 크기 상한을 넘으면 사용 빈도/최근성 기준으로 제거하고, TTL이 지난 항목은 버린다.
+ * 비밀번호를 지운 사본만 저장한다.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetails> entries;
+
+    public UserDetailsCache(@Value("${hotel.cache.user-details.max-entries:10000}") int maxEntries,
+                            @Value("${hotel.cache.user-details.ttl-seconds:60}") long ttlSeconds) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public UserDetails get(String username) {
+        return entries.getIfPresent(username);
+    }
+
+    public void put(UserDetails userDetails) {
+        entries.put(userDetails.getUsername(), userDetails);
+    }
+
+    public void evict(String username) {
+        entries.invalidate(username);
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+}
@@ -0,0 +1,97 @@
+package kr.or.hotelpms.hotel.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임 캐시.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 쓰고, 항목마다 토큰 만료 시각에 맞춰 버린다.
+ * 요청 스레드가 동시에 접근하므로 전역 락 없는 Caffeine 캐시를 쓰고, 크기 상한을 넘으면 빈도/최근성 기준으로 제거한다.
+ * 서명 키 링이 바뀌면 clear()로 비워 제거된 키로 검증했던 클레임이 남지 않게 한다.
+ * 적중/미스 횟수는 /actuator/metrics/jwt.token.cache 로 확인할 수 있다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, Claims> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(@Value("${jwt.token-cache.max-entries:5000}") int maxEntries,
+                              MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.hits = Counter.builder("jwt.token.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("jwt.token.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("jwt.token.cache.size", this, VerifiedTokenCache::size).register(meterRegistry);
+    }
+
+    // 캐시된 클레임 반환 (없거나 만료되었으면 null) - 반환된 클레임은 공유되므로 읽기 전용으로 사용
+    public Claims get(String token) {
+        Claims claims = entries.getIfPresent(digest(token));
+        if (claims != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return claims;
+    }
+
+    // 만료 시각이 없는 토큰은 캐시하지 않음
+    public void put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        entries.put(digest(token), claims);
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
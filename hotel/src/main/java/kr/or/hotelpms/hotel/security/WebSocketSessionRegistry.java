@@ -0,0 +1,130 @@
+package kr.or.hotelpms.hotel.security;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import jakarta.annotation.PostConstruct;
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.service.CacheService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 노드에 열린 WebSocket 세션 목록.
+ * STOMP CONNECT에서 인증된 세션은 액세스 토큰 만료 시각까지 유효하고, 클라이언트가 만료 전에
+ * 새 토큰을 {@link StompAuthChannelInterceptor#TOKEN_DESTINATION}으로 보내면 연결을 끊지 않고 만료 시각만 늘린다.
+ * 갱신하지 않은 세션은 만료 시각에 닫고, 로그인이 폐기되면(비밀번호 변경/재발급, 탈퇴, 토큰 탈취 감지, 권한 변경 -
+ * 다른 노드 포함) 그 사용자의 세션을 바로 닫는다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionRegistry {
+
+    static final CloseStatus EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("인증 만료");
+    static final CloseStatus REVOKED = CloseStatus.POLICY_VIOLATION.withReason("인증 변경");
+
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+    private final CacheService cacheService;
+    private final TaskScheduler taskScheduler;
+
+    public WebSocketSessionRegistry(CacheService cacheService,
+                                    @Lazy @Qualifier("taskScheduler") TaskScheduler taskScheduler) {
+        this.cacheService = cacheService;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @PostConstruct
+    void registerCacheInvalidation() {
+        cacheService.onInvalidate(CacheConfig.WS_SESSIONS, username -> {
+            if (CacheService.ALL_KEYS.equals(username)) {
+                sessions.values().forEach(entry -> close(entry, REVOKED));
+            } else {
+                closeUserSessions(username);
+            }
+        });
+    }
+
+    public void register(WebSocketSession session) {
+        sessions.put(session.getId(), new Entry(session));
+    }
+
+    public void unregister(String sessionId) {
+        Entry entry = sessions.remove(sessionId);
+        if (entry != null && entry.expiryTask != null) {
+            entry.expiryTask.cancel(false);
+        }
+    }
+
+    // CONNECT 인증 성공 - 토큰 만료 시각에 세션을 닫도록 예약 (false면 이미 닫힌 세션)
+    public boolean authenticated(String sessionId, String username, Instant expiresAt) {
+        Entry entry = sessions.get(sessionId);
+        if (entry == null) {
+            return false;
+        }
+        entry.username = username;
+        entry.expiresAt = expiresAt;
+        entry.expiryTask = taskScheduler.schedule(() -> close(entry, EXPIRED), expiresAt);
+        return true;
+    }
+
+    // 같은 사용자의 새 토큰으로 만료 시각 연장 (false면 인증 전이거나 다른 사용자/이미 만료된 세션)
+    public boolean reauthenticated(String sessionId, String username, Instant expiresAt) {
+        Entry entry = sessions.get(sessionId);
+        if (entry == null || !username.equals(entry.username) || isExpired(sessionId)) {
+            return false;
+        }
+        ScheduledFuture<?> previous = entry.expiryTask;
+        entry.expiresAt = expiresAt;
+        entry.expiryTask = taskScheduler.schedule(() -> close(entry, EXPIRED), expiresAt);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        return true;
+    }
+
+    // 인증 전이거나 토큰이 만료된 세션 (세션이 아직 닫히는 중이어도 프레임은 처리하지 않음)
+    public boolean isExpired(String sessionId) {
+        Entry entry = sessionId != null ? sessions.get(sessionId) : null;
+        return entry == null || entry.expiresAt == null || !Instant.now().isBefore(entry.expiresAt);
+    }
+
+    public void closeUserSessions(String username) {
+        sessions.values().stream()
+                .filter(entry -> username.equals(entry.username))
+                .forEach(entry -> close(entry, REVOKED));
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private void close(Entry entry, CloseStatus status) {
+        // 닫힌 뒤 afterConnectionClosed에서 목록에서 빠지지만, 그 사이 프레임은 만료로 처리
+        entry.expiresAt = Instant.EPOCH;
+        try {
+            entry.session.close(status);
+        } catch (IOException | RuntimeException e) {
+            log.debug("WebSocket 세션 종료 실패 ({}): {}", entry.session.getId(), e.getMessage());
+        }
+    }
+
+    private static final class Entry {
+        private final WebSocketSession session;
+        private volatile String username;
+        private volatile Instant expiresAt;
+        private volatile ScheduledFuture<?> expiryTask;
+
+        private Entry(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
@@ -3,12 +3,18 @@ package kr.or.hotelpms.hotel.service;
 import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.annotation.PreDestroy;
+import kr.or.hotelpms.hotel.config.CacheConfig;
 import kr.or.hotelpms.hotel.dto.LoginRequest;
 import kr.or.hotelpms.hotel.dto.LoginResponse;
 import kr.or.hotelpms.hotel.dto.RegisterRequest;
@@ -17,6 +23,7 @@ import kr.or.hotelpms.hotel.model.Role;
 import kr.or.hotelpms.hotel.model.User;
 import kr.or.hotelpms.hotel.repository.RoleRepository;
 import kr.or.hotelpms.hotel.repository.UserRepository;
+import kr.or.hotelpms.hotel.security.PasswordHasher;
 import kr.or.hotelpms.hotel.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 
@@ -27,11 +34,23 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
     private final EmailService emailService;
+    private final CacheService cacheService;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
 
-    // 회원가입
+    // 해시 검증이 끝난 뒤의 로그인 후속 처리(재해시 저장, 리프레시 토큰 발급) 전용 - DB I/O가 해시 스레드를 붙잡지 않게
+    private final ExecutorService loginExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PreDestroy
+    void shutdown() {
+        loginExecutor.shutdown();
+    }
+
+    // 회원가입 - 비밀번호 해시는 트랜잭션 밖에서 계산하고 저장만 트랜잭션으로 묶음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto register(RegisterRequest request) {
         // 중복 확인
         if (userRepository.existsByUsername(request.getUsername())) {
@@ -42,37 +61,60 @@ public class AuthService {
             throw new RuntimeException("이미 사용 중인 이메일입니다.");
         }
 
-        // 기본 사용자 권한 찾기 또는 생성
-        Role userRole = roleRepository.findByName("ROLE_USER")
-                .orElseGet(() -> roleRepository.save(new Role("ROLE_USER")));
+        String encodedPassword = passwordHasher.encode(request.getPassword());
 
-        // 사용자 생성
-        User user = User.builder()
-                .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .email(request.getEmail())
-                .name(request.getName())
-                .phone(request.getPhone())
-                .enabled(true)
-                .build();
+        return transactionTemplate.execute(status -> {
+            // 기본 사용자 권한 찾기 또는 생성
+            Role userRole = roleRepository.findByName("ROLE_USER")
+                    .orElseGet(() -> roleRepository.save(new Role("ROLE_USER")));
 
-        user.addRole(userRole);
-        
-        User savedUser = userRepository.save(user);
-        return convertToUserDto(savedUser);
+            // 사용자 생성
+            User user = User.builder()
+                    .username(request.getUsername())
+                    .password(encodedPassword)
+                    .email(request.getEmail())
+                    .name(request.getName())
+                    .phone(request.getPhone())
+                    .enabled(true)
+                    .build();
+
+            user.addRole(userRole);
+
+            User savedUser = userRepository.save(user);
+            return convertToUserDto(savedUser);
+        });
     }
 
-    // 로그인
-    public LoginResponse login(LoginRequest request) {
+    // 로그인 - 비밀번호 검증은 해시 전용 스레드에서 수행해 요청 스레드를 붙잡지 않음
+    // 해시 스레드는 검증만 하고, 이후 DB 작업은 loginExecutor에서 (트랜잭션은 각 저장소/서비스 호출 단위)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<LoginResponse> login(LoginRequest request) {
         // 사용자명으로 사용자 찾기 (enabled 상태와 무관하게)
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new RuntimeException("아이디 또는 비밀번호가 잘못되었습니다."));
+        UserDto userDto = convertToUserDto(user);
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new RuntimeException("아이디 또는 비밀번호가 잘못되었습니다.");
-        }
+        return passwordHasher.matchesAsync(request.getPassword(), user.getPassword())
+                .thenApplyAsync(matches -> {
+                    if (!matches) {
+                        throw new RuntimeException("아이디 또는 비밀번호가 잘못되었습니다.");
+                    }
+                    checkLoginAllowed(user);
+                    rehashIfNeeded(user, request.getPassword());
+
+                    // JWT 토큰 생성 (주요 권한: ADMIN이 있으면 ADMIN, 없으면 USER)
+                    String token = jwtUtil.generateToken(user.getUsername(), userDto.getRole());
+
+                    return LoginResponse.builder()
+                            .user(userDto)
+                            .token(token)
+                            .refreshToken(refreshTokenService.issue(user.getUsername()))
+                            .build();
+                }, loginExecutor);
+    }
 
+    private void checkLoginAllowed(User user) {
         // 탈퇴한 사용자인 경우 특별 처리
         if (!user.getEnabled() && user.getDeletedAt() != null) {
             // 1분이 지났는지 확인
@@ -89,43 +131,58 @@ public class AuthService {
         if (!user.getEnabled()) {
             throw new RuntimeException("비활성화된 계정입니다. 관리자에게 문의하세요.");
         }
+    }
 
-        // 주요 권한 결정 (ADMIN이 있으면 ADMIN, 없으면 USER)
-        String mainRole = user.hasRole("ROLE_ADMIN") ? "ADMIN" : "USER";
-        
-        // JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getUsername(), mainRole);
+    // 해시 알고리즘/강도 설정이 바뀌었으면 로그인한 김에 현재 설정으로 다시 저장 (loginExecutor에서 호출)
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            String newPassword = passwordHasher.encode(rawPassword);
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), newPassword) > 0) {
+                cacheService.evictAfterCommit(CacheConfig.USER_DETAILS, user.getUsername());
+            }
+        } catch (RuntimeException e) {
+            // 재해시 실패(대기열 포화 등)는 로그인 실패로 보지 않음 - 다음 로그인 때 다시 시도
+        }
+    }
 
-        UserDto userDto = convertToUserDto(user);
-        userDto.setRole(mainRole);
+    // 액세스 토큰 재발급 (리프레시 토큰도 새것으로 교체)
+    public LoginResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken)
+                .orElseThrow(() -> new RuntimeException("로그인이 만료되었습니다. 다시 로그인해주세요."));
+
+        User user = userRepository.findByUsername(rotation.username())
+                .orElseThrow(() -> new RuntimeException("로그인이 만료되었습니다. 다시 로그인해주세요."));
+        if (!user.getEnabled()) {
+            throw new RuntimeException("비활성화된 계정입니다. 관리자에게 문의하세요.");
+        }
 
+        UserDto userDto = convertToUserDto(user);
         return LoginResponse.builder()
                 .user(userDto)
-                .token(token)
+                .token(jwtUtil.generateToken(user.getUsername(), userDto.getRole()))
+                .refreshToken(rotation.refreshToken())
                 .build();
     }
 
+    // 로그아웃 (리프레시 토큰 폐기 - 액세스 토큰은 만료까지 유효)
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
+
     // 비밀번호 찾기 (임시 비밀번호 발급)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void findPassword(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("해당 이메일로 가입된 사용자가 없습니다."));
 
-        // 임시 비밀번호 생성
-        String tempPassword = UUID.randomUUID().toString().substring(0, 8);
-        user.setPassword(passwordEncoder.encode(tempPassword));
-        userRepository.save(user);
-
-        // 이메일로 임시 비밀번호 전송
-        try {
-            emailService.sendTemporaryPassword(user.getEmail(), tempPassword);
-        } catch (Exception e) {
-            // 이메일 전송 실패 시 예외 처리 (예: 로깅)
-            e.printStackTrace();
-            throw new RuntimeException("임시 비밀번호 이메일 전송에 실패했습니다.");
-        }
+        resetToTemporaryPassword(user);
     }
 
     // 비밀번호 찾기 (이메일과 이름으로 검증)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void findPasswordWithName(String email, String name) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("입력하신 정보와 일치하는 사용자가 없습니다."));
@@ -135,19 +192,25 @@ public class AuthService {
             throw new RuntimeException("입력하신 정보와 일치하는 사용자가 없습니다.");
         }
 
-        // 임시 비밀번호 생성
+        resetToTemporaryPassword(user);
+    }
+
+    // 임시 비밀번호 해시는 트랜잭션 밖에서 계산하고, 비밀번호 교체 + 토큰 폐기 + 메일 등록만 한 트랜잭션으로 처리
+    private void resetToTemporaryPassword(User user) {
         String tempPassword = UUID.randomUUID().toString().substring(0, 8);
-        user.setPassword(passwordEncoder.encode(tempPassword));
-        userRepository.save(user);
+        String encodedPassword = passwordHasher.encode(tempPassword);
 
-        // 이메일로 임시 비밀번호 전송
-        try {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 해시 계산 중 비밀번호가 바뀌었으면 덮어쓰지 않음
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), encodedPassword) == 0) {
+                throw new RuntimeException("요청을 처리하는 중 비밀번호가 변경되었습니다. 다시 시도해주세요.");
+            }
+            cacheService.evictAfterCommit(CacheConfig.USER_DETAILS, user.getUsername());
+            refreshTokenService.revokeAll(user.getUsername());
+
+            // 이메일로 임시 비밀번호 전송 (같은 트랜잭션으로 발송 대기열에 등록, 발송은 백그라운드)
             emailService.sendTemporaryPassword(user.getEmail(), tempPassword);
-        } catch (Exception e) {
-            // 이메일 전송 실패 시 예외 처리 (예: 로깅)
-            e.printStackTrace();
-            throw new RuntimeException("임시 비밀번호 이메일 전송에 실패했습니다.");
-        }
+        });
     }
 
     // 사용자명 중복 확인
@@ -208,13 +271,15 @@ public class AuthService {
                 if (!admin.hasRole("ROLE_ADMIN")) {
                     admin.addRole(adminRole);
                     userRepository.save(admin);
+                    cacheService.evictAfterCommit(CacheConfig.USER_DETAILS, admin.getUsername());
+                    refreshTokenService.closeWebSocketSessions(admin.getUsername());
                 }
             },
             () -> {
                 // 계정이 존재하지 않을 경우: 새로 생성
                 User admin = User.builder()
                         .username("admin")
-                        .password(passwordEncoder.encode("admin"))
+                        .password(passwordHasher.encode("admin"))
                         .email("admin@test.com")
                         .name("관리자")
                         .enabled(true)
@@ -0,0 +1,120 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 조회/무효화 창구.
+ * 공유 캐시(CacheManager) 조회 실패는 캐시 미스로 처리해 Redis 장애가 요청 실패로 이어지지 않게 하고,
+ * 무효화는 커밋 후 로컬 리스너에 바로 전달한 뒤 Redis pub/sub으로 다른 노드에도 전파한다.
+ */
+@Slf4j
+@Service
+public class CacheService {
+
+    // 캐시 전체 무효화를 뜻하는 키
+    public static final String ALL_KEYS = "*";
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final boolean redisEnabled;
+    // 자신이 보낸 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public CacheService(CacheManager cacheManager,
+                        ObjectProvider<StringRedisTemplate> redisTemplate,
+                        @Value("${hotel.cache.redis.enabled:false}") boolean redisEnabled) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+    }
+
+    // 캐시에 있으면 반환, 없으면 loader로 만들어 저장 (해당 캐시가 없거나 오류면 loader 결과를 그대로 반환)
+    public <T> T getOrLoad(String cacheName, String key, Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+        try {
+            return cache.get(key, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+        } catch (RuntimeException e) {
+            log.warn("캐시 조회 실패, DB에서 직접 조회합니다: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+            return loader.get();
+        }
+    }
+
+    // 로컬 캐시(메모리 스냅샷 등)의 무효화 리스너 등록 - 리스너는 무효화된 키(또는 ALL_KEYS)를 받음
+    public void onInvalidate(String cacheName, Consumer<String> listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    // 현재 트랜잭션 커밋 후 키 하나 무효화
+    public void evictAfterCommit(String cacheName, String key) {
+        TransactionUtil.afterCommit(() -> invalidate(cacheName, key));
+    }
+
+    // 현재 트랜잭션 커밋 후 캐시 전체 무효화
+    public void clearAfterCommit(String cacheName) {
+        TransactionUtil.afterCommit(() -> invalidate(cacheName, ALL_KEYS));
+    }
+
+    // 다른 노드에서 온 무효화 메시지 처리 (형식: nodeId|cacheName|key)
+    public void receive(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        notifyListeners(parts[1], parts[2]);
+    }
+
+    private void invalidate(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            try {
+                if (ALL_KEYS.equals(key)) {
+                    cache.clear();
+                } else {
+                    cache.evict(key);
+                }
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+            }
+        }
+        notifyListeners(cacheName, key);
+        publish(cacheName, key);
+    }
+
+    private void notifyListeners(String cacheName, String key) {
+        listeners.getOrDefault(cacheName, List.of()).forEach(listener -> listener.accept(key));
+    }
+
+    private void publish(String cacheName, String key) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.getObject().convertAndSend(CacheConfig.INVALIDATION_CHANNEL, nodeId + "|" + cacheName + "|" + key);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 전파 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package kr.or.hotelpms.hotel.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.dto.CommentDto;
 import kr.or.hotelpms.hotel.exception.AuthorizationException;
 import kr.or.hotelpms.hotel.model.Comment;
 import kr.or.hotelpms.hotel.model.Review;
@@ -19,36 +21,77 @@ import java.util.Map;
 public class CommentService {
     private final CommentRepository commentRepository;
     private final ReviewRepository reviewRepository;
+    private final CacheService cacheService;
+    private final NotificationService notificationService;
 
-    public CommentService(CommentRepository commentRepository, ReviewRepository reviewRepository) {
+    // 페이지 API의 최상위 댓글 수/답글 깊이 상한
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_DEPTH = 10;
+    // 기존 전체 트리 API의 상한 - 넘는 부분은 /tree, /replies 페이지 API로
+    private static final int LEGACY_MAX_ROOTS = 100;
+
+    public CommentService(CommentRepository commentRepository, ReviewRepository reviewRepository,
+                          CacheService cacheService, NotificationService notificationService) {
         this.commentRepository = commentRepository;
         this.reviewRepository = reviewRepository;
+        this.cacheService = cacheService;
+        this.notificationService = notificationService;
     }
 
+    // 기존 API 호환: 리뷰의 댓글 트리 (재귀 CTE 쿼리 한 번) - 최상위 댓글 LEGACY_MAX_ROOTS개, 답글 MAX_DEPTH 단계까지
     @Transactional(readOnly = true)
-    public List<Comment> getCommentsByReviewId(Long reviewId) {
-        // ... (이전과 동일)
-        List<Comment> allComments = commentRepository.findByReviewIdOrderByCreatedAtAsc(reviewId);
-        Map<Long, Comment> commentMap = new HashMap<>();
-        allComments.forEach(comment -> {
-            comment.setChildren(new ArrayList<>());
-            commentMap.put(comment.getId(), comment);
-        });
-        allComments.forEach(comment -> {
-            if (comment.getParent() != null) {
-                Comment parent = commentMap.get(comment.getParent().getId());
-                if (parent != null) {
-                    parent.getChildren().add(comment);
+    public List<CommentDto.CommentNode> getCommentsByReviewId(Long reviewId) {
+        return commentTree(reviewId, null, LEGACY_MAX_ROOTS, MAX_DEPTH).getContent();
+    }
+
+    // 최상위 댓글 페이지 + maxDepth 단계까지의 답글
+    @Transactional(readOnly = true)
+    public CommentDto.CommentPage getCommentTree(Long reviewId, Long cursor, int size, int maxDepth) {
+        return commentTree(reviewId, cursor, clamp(size, 1, MAX_PAGE_SIZE), clamp(maxDepth, 0, MAX_DEPTH));
+    }
+
+    // 답글 더 보기: 특정 댓글의 바로 아래 답글 페이지 + maxDepth 단계까지
+    @Transactional(readOnly = true)
+    public CommentDto.CommentPage getReplies(Long commentId, Long cursor, int size, int maxDepth) {
+        int pageSize = clamp(size, 1, MAX_PAGE_SIZE);
+        int depth = clamp(maxDepth, 0, MAX_DEPTH);
+        return toPage(commentRepository.findTreeByParentId(commentId, cursor, pageSize + 1, depth), pageSize, depth);
+    }
+
+    private CommentDto.CommentPage commentTree(Long reviewId, Long cursor, int pageSize, int depth) {
+        return toPage(commentRepository.findTreeByReviewId(reviewId, cursor, pageSize + 1, depth), pageSize, depth);
+    }
+
+    private CommentDto.CommentPage toPage(List<CommentDto.CommentRow> rows, int pageSize, int maxDepth) {
+        List<CommentDto.CommentNode> roots = buildTree(rows, maxDepth);
+        boolean hasNext = roots.size() > pageSize;
+        List<CommentDto.CommentNode> page = hasNext ? roots.subList(0, pageSize) : roots;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+        return new CommentDto.CommentPage(page, nextCursor);
+    }
+
+    // 행은 (깊이, id) 순이라 부모가 항상 먼저 나옴 - 한 번 훑으며 부모 노드에 붙임
+    private List<CommentDto.CommentNode> buildTree(List<CommentDto.CommentRow> rows, int maxDepth) {
+        Map<Long, CommentDto.CommentNode> nodes = new HashMap<>();
+        List<CommentDto.CommentNode> roots = new ArrayList<>();
+        for (CommentDto.CommentRow row : rows) {
+            CommentDto.CommentNode node = new CommentDto.CommentNode(row, maxDepth);
+            if (row.getDepth() == 0) {
+                roots.add(node);
+            } else {
+                CommentDto.CommentNode parent = nodes.get(row.getParentId());
+                if (parent == null) {
+                    continue;
                 }
+                parent.getChildren().add(node);
             }
-        });
-        List<Comment> rootComments = new ArrayList<>();
-        allComments.forEach(comment -> {
-            if(comment.getParent() == null) {
-                rootComments.add(comment);
-            }
-        });
-        return rootComments;
+            nodes.put(node.getId(), node);
+        }
+        return roots;
+    }
+
+    private int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(value, max));
     }
 
     public Comment createComment(Long reviewId, Long parentId, String content, String username) {
@@ -64,7 +107,26 @@ public class CommentService {
                     .orElseThrow(() -> new EntityNotFoundException("Parent comment not found"));
             comment.setParent(parentComment);
         }
-        return commentRepository.save(comment);
+        // 리뷰 목록의 댓글 수가 바뀌므로 캐시된 페이지 무효화
+        cacheService.clearAfterCommit(CacheConfig.REVIEW_PAGES);
+        Comment saved = commentRepository.save(comment);
+        reviewRepository.adjustCommentCount(reviewId, 1);
+        notifyCommented(saved, username);
+        return saved;
+    }
+
+    // 답글이면 원 댓글 작성자에게, 아니면 리뷰 작성자에게 알림 (본인 글에 단 경우 제외)
+    private void notifyCommented(Comment comment, String username) {
+        Comment parent = comment.getParent();
+        if (parent != null) {
+            if (!username.equals(parent.getUsername())) {
+                notificationService.notify(parent.getUsername(), "COMMENT_REPLIED", "댓글에 답글이 달렸습니다.",
+                        username + "님이 회원님의 댓글에 답글을 남겼습니다.", comment.getReview().getId(), "REVIEW");
+            }
+        } else if (!username.equals(comment.getReview().getUsername())) {
+            notificationService.notify(comment.getReview().getUsername(), "REVIEW_COMMENTED", "리뷰에 댓글이 달렸습니다.",
+                    username + "님이 회원님의 리뷰에 댓글을 남겼습니다.", comment.getReview().getId(), "REVIEW");
+        }
     }
 
     // [추가된 삭제 메서드]
@@ -75,6 +137,10 @@ public class CommentService {
         if (!comment.getUsername().equals(userDetails.getUsername())) {
             throw new AuthorizationException("You do not have permission to delete this comment.");
         }
+        // 답글도 함께 삭제되므로 하위 댓글 수만큼 차감
+        long removed = commentRepository.countSubtree(commentId);
         commentRepository.delete(comment);
+        reviewRepository.adjustCommentCount(comment.getReview().getId(), (int) -removed);
+        cacheService.clearAfterCommit(CacheConfig.REVIEW_PAGES);
     }
 }
\ No newline at end of file
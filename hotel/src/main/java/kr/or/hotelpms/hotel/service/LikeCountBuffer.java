@@ -0,0 +1,137 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import kr.or.hotelpms.hotel.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 좋아요 수 쓰기 모음 버퍼.
+ * 인기 리뷰에 좋아요가 몰려도 reviews 행 잠금 경쟁이 없도록 증감분을 리뷰별로 모았다가
+ * 0.3초마다 like_count = like_count + ? 배치 UPDATE 한 번으로 반영한다. 기준 데이터는 review_likes 행이며,
+ * 반영 전에 서버가 죽어 생긴 오차는 reconcile()이 맞춘다. 보정은 잠시 간격을 두고 두 번 조회해 그동안 변화가 없는
+ * 리뷰만 고치므로, 다른 노드에 아직 반영되지 않은 증감분을 행 수에 미리 넣었다가 두 번 더하지 않는다.
+ * 목록 캐시는 반영할 때마다 비우지 않고 1분 TTL 동안의 오차를 허용한다 (좋아요 응답에는 최신 값이 나감).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountBuffer {
+
+    private static final String FLUSH_SQL =
+            "UPDATE reviews SET like_count = GREATEST(0, like_count + ?) WHERE id = ?";
+
+    // 좋아요 수가 review_likes와 어긋난 리뷰 (잠금 없는 스냅샷 조회)
+    private static final String MISMATCH_SQL =
+            "SELECT r.id, r.like_count, COALESCE(l.cnt, 0) AS cnt FROM reviews r " +
+            "LEFT JOIN (SELECT review_id, COUNT(*) AS cnt FROM review_likes GROUP BY review_id) l ON l.review_id = r.id " +
+            "WHERE r.like_count <> COALESCE(l.cnt, 0) ORDER BY r.id";
+
+    // 조회한 뒤 그 사이 다른 반영이 없었을 때만 덮어씀
+    private static final String REPAIR_SQL =
+            "UPDATE reviews SET like_count = ? WHERE id = ? AND like_count = ?";
+
+    // 두 번째 조회까지 기다리는 시간 - 모든 노드의 반영 주기(0.3초)가 여러 번 지나도록
+    private static final long RECONCILE_SETTLE_MILLIS = 2_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 리뷰 id -> 아직 반영되지 않은 증감분 (반영할 때 꺼내 지우므로 삭제된 리뷰 항목도 남지 않음)
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // 좋아요 행 변경이 커밋된 경우에만 증감분 반영 (합이 0이 되면 항목 제거)
+    public void add(Long reviewId, int delta) {
+        TransactionUtil.afterCommit(() -> merge(reviewId, delta));
+    }
+
+    // 아직 DB에 반영되지 않은 증감분 (응답에 보여줄 좋아요 수 보정용)
+    public long pendingDelta(Long reviewId) {
+        return pending.getOrDefault(reviewId, 0L);
+    }
+
+    @Scheduled(fixedDelay = 300)
+    public synchronized void flush() {
+        Map<Long, Long> batch = new TreeMap<>(); // id 순으로 잠가 노드 간 교착 방지
+        for (Long reviewId : pending.keySet()) {
+            Long delta = pending.remove(reviewId);
+            if (delta != null && delta != 0) {
+                batch.put(reviewId, delta);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        batch.forEach((reviewId, delta) -> rows.add(new Object[]{delta, reviewId}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, rows);
+        } catch (RuntimeException e) {
+            // 반영 실패분은 되돌려 다음 주기에 다시 시도
+            batch.forEach(this::merge);
+            log.warn("좋아요 수 {}건 반영 실패: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    // review_likes 기준으로 어긋난 좋아요 수 보정 (시작 시 및 매시간)
+    // 두 번 조회해 값이 그대로인 리뷰만 고침 - 그 사이 좋아요가 오갔거나 다른 노드가 증감분을 반영한 리뷰는 다음 보정으로
+    // 기다리는 동안 flush()를 막지 않도록 동기화하지 않음
+    @Scheduled(cron = "0 15 * * * *")
+    public void reconcile() {
+        flush();
+        Set<Mismatch> first = new HashSet<>(findMismatches());
+        if (first.isEmpty()) {
+            return;
+        }
+        try {
+            Thread.sleep(RECONCILE_SETTLE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        flush();
+
+        List<Object[]> repairs = new ArrayList<>();
+        for (Mismatch mismatch : findMismatches()) {
+            if (first.contains(mismatch) && !pending.containsKey(mismatch.reviewId())) {
+                repairs.add(new Object[]{mismatch.count(), mismatch.reviewId(), mismatch.likeCount()});
+            }
+        }
+        if (!repairs.isEmpty()) {
+            int repaired = 0;
+            for (int updated : jdbcTemplate.batchUpdate(REPAIR_SQL, repairs)) {
+                repaired += Math.max(updated, 0);
+            }
+            log.info("좋아요 수가 어긋난 리뷰 {}건 보정", repaired);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void merge(Long reviewId, long delta) {
+        pending.merge(reviewId, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    private List<Mismatch> findMismatches() {
+        return jdbcTemplate.query(MISMATCH_SQL, (rs, rowNum) ->
+                new Mismatch(rs.getLong("id"), rs.getLong("like_count"), rs.getLong("cnt")));
+    }
+
+    private record Mismatch(long reviewId, long likeCount, long count) {
+    }
+}
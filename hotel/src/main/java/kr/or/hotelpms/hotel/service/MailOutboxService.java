@@ -0,0 +1,158 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.or.hotelpms.hotel.model.MailOutbox;
+import kr.or.hotelpms.hotel.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 outbox 상태 관리 (등록, 발송 대상 확보, 결과 반영).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    // 임대 시간 여유분 (렌더링, 결과 반영 등)
+    private static final long LEASE_MARGIN_SECONDS = 60;
+    private static final int MAX_ATTEMPTS = 6;
+    // 재시도 간격: 30초, 1분, 2분, 4분, 8분
+    private static final long BASE_BACKOFF_SECONDS = 30;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailTemplates mailTemplates;
+    private final ObjectMapper objectMapper;
+
+    // SMTP 연결/응답 제한 시간 - 발송 중 임대 시간 계산용
+    @Value("${spring.mail.properties.mail.smtp.connectiontimeout:5000}")
+    private long smtpConnectTimeoutMillis;
+
+    @Value("${spring.mail.properties.mail.smtp.timeout:10000}")
+    private long smtpTimeoutMillis;
+
+    @Value("${spring.mail.properties.mail.smtp.writetimeout:10000}")
+    private long smtpWriteTimeoutMillis;
+
+    // 호출한 쪽 트랜잭션에 함께 저장 (롤백되면 메일도 나가지 않음) - 렌더링은 발송 시점에 워커가 함
+    @Transactional
+    public void enqueue(String recipient, String template, Map<String, String> model) {
+        mailOutboxRepository.save(newMail(recipient, template, model, null));
+    }
+
+    // 여러 통을 한 번에 등록 - dedupeKey가 이미 등록된 메일은 건너뜀
+    @Transactional
+    public int enqueueAll(List<QueuedMail> mails) {
+        List<String> keys = mails.stream().map(QueuedMail::dedupeKey).filter(Objects::nonNull).toList();
+        Set<String> existing = keys.isEmpty() ? Set.of() : new HashSet<>(mailOutboxRepository.findExistingDedupeKeys(keys));
+
+        List<MailOutbox> newMails = mails.stream()
+                .filter(mail -> mail.dedupeKey() == null || !existing.contains(mail.dedupeKey()))
+                .map(mail -> newMail(mail.recipient(), mail.template(), mail.model(), mail.dedupeKey()))
+                .toList();
+        mailOutboxRepository.saveAll(newMails);
+        return newMails.size();
+    }
+
+    // 저장된 변수로 제목/본문 렌더링 (워커에서 호출)
+    public MailTemplates.Rendered render(MailOutbox mail) {
+        try {
+            Map<String, String> model = mail.getModel() == null
+                    ? Map.of()
+                    : objectMapper.readValue(mail.getModel(), new TypeReference<Map<String, String>>() {});
+            return mailTemplates.render(mail.getTemplate(), model);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메일 변수를 읽을 수 없습니다: id=" + mail.getId(), e);
+        }
+    }
+
+    private MailOutbox newMail(String recipient, String template, Map<String, String> model, String dedupeKey) {
+        // 없는 템플릿은 발송 시점이 아니라 등록 시점에 바로 실패
+        if (!mailTemplates.exists(template)) {
+            throw new IllegalArgumentException("존재하지 않는 메일 템플릿입니다: " + template);
+        }
+        try {
+            MailOutbox mail = new MailOutbox(recipient, template, objectMapper.writeValueAsString(model));
+            mail.setDedupeKey(dedupeKey);
+            return mail;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("메일 변수를 저장할 수 없습니다.", e);
+        }
+    }
+
+    // 발송할 메일을 확보하고 SENDING으로 표시
+    @Transactional
+    public List<MailOutbox> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> mails = mailOutboxRepository.findDueForUpdate(now, batchSize);
+        LocalDateTime lockedUntil = now.plusSeconds(leaseSeconds(mails.size()));
+        mails.forEach(mail -> {
+            mail.setStatus(MailOutbox.SENDING);
+            mail.setLockedUntil(lockedUntil);
+        });
+        return mails;
+    }
+
+    // 발송 중 임대 시간 - 이 시간 안에 결과가 반영되지 않으면 다른 워커가 다시 발송하므로
+    // 배치 전체가 SMTP 제한 시간에 걸려도(연결 1회 + 메시지마다 응답/쓰기 대기) 끝날 만큼 잡음
+    long leaseSeconds(int batchSize) {
+        long perMessageMillis = Math.max(smtpTimeoutMillis, smtpWriteTimeoutMillis);
+        return (smtpConnectTimeoutMillis + batchSize * perMessageMillis) / 1000 + LEASE_MARGIN_SECONDS;
+    }
+
+    // 발송 결과 반영 - failures: 실패한 메일 id -> 오류 메시지
+    @Transactional
+    public void complete(List<Long> mailIds, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.findAllById(mailIds).forEach(mail -> {
+            mail.setLockedUntil(null);
+            mail.setAttempts(mail.getAttempts() + 1);
+
+            String error = failures.get(mail.getId());
+            if (error == null) {
+                mail.setStatus(MailOutbox.SENT);
+                mail.setSentAt(now);
+                mail.setModel(null);
+                mail.setLastError(null);
+            } else if (mail.getAttempts() >= MAX_ATTEMPTS) {
+                // 더 보내지 않으므로 변수(임시 비밀번호 등)는 바로 지움
+                mail.setStatus(MailOutbox.FAILED);
+                mail.setModel(null);
+                mail.setLastError(truncate(error));
+                log.error("메일 발송 최종 실패: id={}, 수신자={}, 오류={}", mail.getId(), mail.getRecipient(), error);
+            } else {
+                mail.setStatus(MailOutbox.PENDING);
+                mail.setNextAttemptAt(now.plusSeconds(BASE_BACKOFF_SECONDS << (mail.getAttempts() - 1)));
+                mail.setLastError(truncate(error));
+            }
+        });
+    }
+
+    // 발송 완료/최종 실패 후 일정 기간 지난 기록 삭제 (최종 실패 행에 남은 변수도 함께 정리)
+    @Transactional
+    public int deleteFinishedBefore(LocalDateTime before) {
+        mailOutboxRepository.clearFailedModels();
+        return mailOutboxRepository.deleteFinishedBefore(before);
+    }
+
+    private static String truncate(String error) {
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    public record QueuedMail(String recipient, String template, Map<String, String> model, String dedupeKey) {
+    }
+}
@@ -0,0 +1,107 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.or.hotelpms.hotel.model.MailOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox에 쌓인 메일을 주기적으로 모아 발송하는 백그라운드 워커.
+ * 템플릿 렌더링도 여기서 하며, 한 번에 확보한 메일은 SMTP 연결 하나로 묶어 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxWorker {
+
+    private static final int BATCH_SIZE = 50;
+
+    private final MailOutboxService mailOutboxService;
+    private final JavaMailSender javaMailSender;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    // 2초마다 발송 대상이 없어질 때까지 배치 단위로 발송
+    @Scheduled(fixedDelay = 2000)
+    public void drain() {
+        List<MailOutbox> batch;
+        do {
+            batch = mailOutboxService.claim(BATCH_SIZE);
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    // 매일 새벽 발송 완료/최종 실패 기록 정리
+    @Scheduled(cron = "0 40 3 * * *")
+    public void purgeFinished() {
+        int deleted = mailOutboxService.deleteFinishedBefore(LocalDateTime.now().minusDays(7));
+        if (deleted > 0) {
+            log.info("발송 완료/실패 메일 기록 {}건 삭제", deleted);
+        }
+    }
+
+    private void send(List<MailOutbox> batch) {
+        Map<Long, String> failures = new HashMap<>();
+        List<MailOutbox> sendable = new ArrayList<>();
+        List<SimpleMailMessage> rendered = new ArrayList<>();
+        for (MailOutbox mail : batch) {
+            try {
+                MailTemplates.Rendered content = mailOutboxService.render(mail);
+                SimpleMailMessage message = new SimpleMailMessage();
+                message.setFrom(fromEmail);
+                message.setTo(mail.getRecipient());
+                message.setSubject(content.subject());
+                message.setText(content.body());
+                sendable.add(mail);
+                rendered.add(message);
+            } catch (RuntimeException e) {
+                failures.put(mail.getId(), "렌더링 실패: " + e.getMessage());
+            }
+        }
+
+        if (!rendered.isEmpty()) {
+            sendAll(sendable, rendered.toArray(SimpleMailMessage[]::new), failures);
+        }
+
+        if (!failures.isEmpty()) {
+            log.warn("메일 {}건 중 {}건 발송 실패 - 재시도 예정", batch.size(), failures.size());
+        }
+        mailOutboxService.complete(batch.stream().map(MailOutbox::getId).toList(), failures);
+    }
+
+    private void sendAll(List<MailOutbox> batch, SimpleMailMessage[] messages, Map<Long, String> failures) {
+        try {
+            javaMailSender.send(messages);
+        } catch (MailSendException e) {
+            // 메시지별 실패 (연결 실패 시에는 남은 메시지 전체가 포함됨)
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (int i = 0; i < messages.length; i++) {
+                Exception failure = failedMessages.get(messages[i]);
+                if (failure != null) {
+                    failures.put(batch.get(i).getId(), String.valueOf(failure.getMessage()));
+                }
+            }
+            if (failedMessages.isEmpty()) {
+                batch.forEach(mail -> failures.put(mail.getId(), String.valueOf(e.getMessage())));
+            }
+        } catch (MailException e) {
+            batch.forEach(mail -> failures.put(mail.getId(), String.valueOf(e.getMessage())));
+        }
+    }
+}
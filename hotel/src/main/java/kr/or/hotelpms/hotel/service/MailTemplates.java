@@ -0,0 +1,100 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 템플릿 (classpath:mail-templates/*.txt).
+ * 시작 시 한 번 읽어 고정 문자열/변수 조각으로 나눠 두고, 발송 시에는 조각을 이어 붙이기만 한다.
+ *
+ * 파일 형식: 첫 줄 제목, "---" 줄, 이후 본문. 변수는 {{name}} 형태.
+ */
+@Slf4j
+@Component
+public class MailTemplates {
+
+    private static final String LOCATION = "classpath:mail-templates/*.txt";
+    private static final String SEPARATOR = "\n---\n";
+
+    private final Map<String, Template> templates = new HashMap<>();
+
+    @PostConstruct
+    void compileAll() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(LOCATION);
+        for (Resource resource : resources) {
+            String fileName = resource.getFilename();
+            String name = fileName.substring(0, fileName.length() - ".txt".length());
+            try (InputStream in = resource.getInputStream()) {
+                String source = new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+                int separator = source.indexOf(SEPARATOR);
+                if (separator < 0) {
+                    throw new IllegalStateException("메일 템플릿 형식 오류 (제목/본문 구분선 없음): " + fileName);
+                }
+                templates.put(name, new Template(
+                        Compiled.of(source.substring(0, separator).trim()),
+                        Compiled.of(source.substring(separator + SEPARATOR.length()))));
+            }
+        }
+        log.info("메일 템플릿 {}개 적재: {}", templates.size(), templates.keySet());
+    }
+
+    public boolean exists(String name) {
+        return templates.containsKey(name);
+    }
+
+    public Rendered render(String name, Map<String, String> model) {
+        Template template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("존재하지 않는 메일 템플릿입니다: " + name);
+        }
+        return new Rendered(template.subject().render(model), template.body().render(model));
+    }
+
+    public record Rendered(String subject, String body) {
+    }
+
+    private record Template(Compiled subject, Compiled body) {
+    }
+
+    // literals[0] keys[0] literals[1] keys[1] ... literals[n] 순서로 이어 붙임
+    private record Compiled(String[] literals, String[] keys) {
+
+        static Compiled of(String source) {
+            List<String> literals = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            int position = 0;
+            while (true) {
+                int open = source.indexOf("{{", position);
+                int close = open < 0 ? -1 : source.indexOf("}}", open + 2);
+                if (close < 0) {
+                    literals.add(source.substring(position));
+                    break;
+                }
+                literals.add(source.substring(position, open));
+                keys.add(source.substring(open + 2, close).trim());
+                position = close + 2;
+            }
+            return new Compiled(literals.toArray(String[]::new), keys.toArray(String[]::new));
+        }
+
+        String render(Map<String, String> model) {
+            StringBuilder out = new StringBuilder(256);
+            for (int i = 0; i < keys.length; i++) {
+                out.append(literals[i]).append(model.getOrDefault(keys[i], ""));
+            }
+            return out.append(literals[keys.length]).toString();
+        }
+    }
+}
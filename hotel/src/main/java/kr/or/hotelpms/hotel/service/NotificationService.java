@@ -1,9 +1,207 @@
 package kr.or.hotelpms.hotel.service;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.annotation.PreDestroy;
+import kr.or.hotelpms.hotel.dto.NotificationDto;
+import kr.or.hotelpms.hotel.model.Notification;
+import kr.or.hotelpms.hotel.repository.NotificationRepository;
+import kr.or.hotelpms.hotel.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 알림. 예약/리뷰/댓글 변경 시 생성되는 알림은 커밋 후 메모리 대기열에 넣고,
+ * 주기적으로 모아 JDBC 배치 INSERT 한 번으로 저장한다 (IDENTITY 키라 JPA 배치 저장이 안 됨).
+ * 실시간 푸시는 저장 후 생성된 id를 채워서 보내므로, 클라이언트는 푸시받은 알림을 읽음 처리하거나 목록과 중복 제거할 수 있다.
+ * 커밋 후 콜백에서는 끝난 트랜잭션의 커넥션이 아직 묶여 있으므로 그 스레드에서는 DB에 쓰지 않는다.
+ */
+@Slf4j
+@Service
 public class NotificationService {
-    
-}
 
-// 알림 처리 로직 //
-// 선택 사항 (필요 시) 만들어야 함 //
-// 난이도: 중급 (알림 처리) //
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (username, type, title, message, is_read, related_id, related_type, created_at) " +
+            "VALUES (?, ?, ?, ?, false, ?, ?, ?)";
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PushService pushService;
+    private final int batchSize;
+    private final BlockingQueue<Notification> pending;
+    // 대기열이 가득 찼을 때의 즉시 저장 전용 스레드 (이것도 밀리면 알림은 버리고 기록만 남김)
+    private final ThreadPoolExecutor overflowExecutor;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               JdbcTemplate jdbcTemplate,
+                               PushService pushService,
+                               @Value("${hotel.notification.batch-size:200}") int batchSize,
+                               @Value("${hotel.notification.queue-capacity:10000}") int queueCapacity) {
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.pushService = pushService;
+        this.batchSize = batchSize;
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+        this.overflowExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-overflow");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> log.warn("알림 대기열 포화로 알림 1건을 저장하지 못했습니다."));
+    }
+
+    // 알림 등록 - 호출한 트랜잭션이 커밋된 경우에만 대기열에 들어가고 접속 중인 사용자에게 바로 푸시
+    public void notify(String username, String type, String title, String message,
+                       Long relatedId, String relatedType) {
+        if (username == null) {
+            return;
+        }
+        Notification notification = new Notification();
+        notification.setUsername(username);
+        notification.setType(type);
+        notification.setTitle(title);
+        notification.setMessage(message);
+        notification.setRelatedId(relatedId);
+        notification.setRelatedType(relatedType);
+        notification.setCreatedAt(LocalDateTime.now());
+
+        TransactionUtil.afterCommit(() -> enqueue(notification));
+    }
+
+    private void enqueue(Notification notification) {
+        // 대기열이 가득 차면 별도 스레드에서 쌓인 것부터 바로 저장하고 다시 시도 (그래도 안 되면 단건 저장)
+        if (!pending.offer(notification)) {
+            overflowExecutor.execute(() -> {
+                if (!pending.offer(notification)) {
+                    flush();
+                    if (!pending.offer(notification)) {
+                        insertBatch(List.of(notification));
+                    }
+                }
+            });
+        }
+    }
+
+    // 0.5초마다 대기 중인 알림을 배치로 저장
+    @Scheduled(fixedDelay = 500)
+    public void flush() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            insertBatch(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() throws InterruptedException {
+        overflowExecutor.shutdown();
+        overflowExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    // 배치 INSERT 후 생성된 id를 채워 접속 중인 사용자에게 푸시
+    private void insertBatch(List<Notification> batch) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Notification n = batch.get(i);
+                            ps.setString(1, n.getUsername());
+                            ps.setString(2, n.getType());
+                            ps.setString(3, n.getTitle());
+                            ps.setString(4, n.getMessage());
+                            ps.setObject(5, n.getRelatedId());
+                            ps.setString(6, n.getRelatedType());
+                            ps.setTimestamp(7, Timestamp.valueOf(n.getCreatedAt()));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keyHolder);
+        } catch (RuntimeException e) {
+            // 알림은 부가 기능이므로 저장 실패가 다른 흐름을 막지 않게 기록만 남김
+            log.warn("알림 {}건 저장 실패: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != batch.size()) {
+            // 드라이버가 키를 일부만 돌려준 경우 - 잘못된 id로 푸시하지 않음 (목록 조회로 확인 가능)
+            log.warn("알림 {}건 중 {}건의 id만 받아 푸시를 생략합니다.", batch.size(), keys.size());
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Notification notification = batch.get(i);
+            notification.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            pushService.notification(notification.getUsername(), new NotificationDto.NotificationResponse(notification));
+        }
+    }
+
+    // 알림 목록 (최신순, cursor 이전 id부터)
+    @Transactional(readOnly = true)
+    public NotificationDto.NotificationPage getNotifications(String username, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Notification> rows = notificationRepository.findPage(username, cursor, Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationDto.NotificationResponse> content = rows.stream()
+                .limit(pageSize)
+                .map(NotificationDto.NotificationResponse::new)
+                .toList();
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+
+        return new NotificationDto.NotificationPage(content,
+                notificationRepository.countByUsernameAndReadFalse(username), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount(String username) {
+        return notificationRepository.countByUsernameAndReadFalse(username);
+    }
+
+    // 본인 알림만 읽음 처리 (이미 읽었으면 변경 없음)
+    @Transactional
+    public void markRead(Long notificationId, String username) {
+        if (notificationRepository.markRead(notificationId, username) == 0
+                && !notificationRepository.existsByIdAndUsername(notificationId, username)) {
+            throw new RuntimeException("알림을 찾을 수 없습니다.");
+        }
+    }
+
+    // 모두 읽음 - UPDATE 한 번
+    @Transactional
+    public int markAllRead(String username) {
+        return notificationRepository.markAllRead(username);
+    }
+}
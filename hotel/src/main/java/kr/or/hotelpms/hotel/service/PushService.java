@@ -0,0 +1,112 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.or.hotelpms.hotel.config.WebSocketConfig;
+import kr.or.hotelpms.hotel.dto.NotificationDto;
+import kr.or.hotelpms.hotel.dto.PushEventDto;
+import kr.or.hotelpms.hotel.model.Reservation;
+import kr.or.hotelpms.hotel.model.Room;
+import kr.or.hotelpms.hotel.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket 실시간 푸시. 변경이 커밋된 뒤에만 보내며,
+ * 접속하지 않은 사용자에게 보내는 메시지는 브로커가 바로 버린다 (클라이언트는 재접속 시 REST로 다시 조회).
+ * 브로커는 노드마다 따로 있으므로, Redis를 쓰는 다중 노드 환경에서는 pub/sub으로 다른 노드에도 전달해
+ * 각 노드가 자기에게 연결된 클라이언트에게 보낸다.
+ */
+@Slf4j
+@Service
+public class PushService {
+
+    // 노드 간 푸시 전달 채널
+    public static final String PUSH_CHANNEL = "hotel:push";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    // 자신이 보낸 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public PushService(SimpMessagingTemplate messagingTemplate,
+                       ObjectProvider<StringRedisTemplate> redisTemplate,
+                       ObjectMapper objectMapper,
+                       @Value("${hotel.cache.redis.enabled:false}") boolean redisEnabled) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+    }
+
+    public void roomStatusChanged(Room room) {
+        PushEventDto.RoomStatusEvent event =
+                new PushEventDto.RoomStatusEvent(room.getId(), room.getRoomNumber(), room.getStatus());
+        TransactionUtil.afterCommit(() -> send(null, WebSocketConfig.ROOM_STATUS_TOPIC, event));
+    }
+
+    public void reservationStatusChanged(Reservation reservation) {
+        String username = reservation.getUser().getUsername();
+        PushEventDto.ReservationStatusEvent event =
+                new PushEventDto.ReservationStatusEvent(reservation.getId(), reservation.getStatus());
+        TransactionUtil.afterCommit(() -> send(username, "/queue/reservations", event));
+    }
+
+    // 알림은 NotificationService가 배치 저장으로 id를 받은 뒤 호출
+    public void notification(String username, NotificationDto.NotificationResponse notification) {
+        send(username, "/queue/notifications", notification);
+    }
+
+    // 다른 노드에서 온 푸시를 이 노드의 클라이언트에게 전달
+    public void receive(String message) {
+        try {
+            RelayedPush push = objectMapper.readValue(message, RelayedPush.class);
+            if (!nodeId.equals(push.origin())) {
+                deliver(push.username(), push.destination(), push.payload());
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 푸시 메시지를 무시합니다: {}", e.getMessage());
+        }
+    }
+
+    // username이 null이면 토픽 전체, 아니면 해당 사용자의 세션들에게 전달
+    private void send(String username, String destination, Object payload) {
+        deliver(username, destination, payload);
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            String message = objectMapper.writeValueAsString(
+                    new RelayedPush(nodeId, username, destination, objectMapper.valueToTree(payload)));
+            redisTemplate.getObject().convertAndSend(PUSH_CHANNEL, message);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("푸시 전파 실패 ({}): {}", destination, e.getMessage());
+        }
+    }
+
+    private void deliver(String username, String destination, Object payload) {
+        try {
+            if (username == null) {
+                messagingTemplate.convertAndSend(destination, payload);
+            } else {
+                messagingTemplate.convertAndSendToUser(username, destination, payload);
+            }
+        } catch (RuntimeException e) {
+            log.warn("푸시 전송 실패 ({} {}): {}", username, destination, e.getMessage());
+        }
+    }
+
+    record RelayedPush(String origin, String username, String destination, JsonNode payload) {
+    }
+}
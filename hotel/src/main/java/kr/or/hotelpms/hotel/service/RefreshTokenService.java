@@ -0,0 +1,126 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.model.RefreshToken;
+import kr.or.hotelpms.hotel.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰 발급/교체/폐기.
+ * 갱신할 때마다 새 토큰으로 교체(rotation)하고, 이미 교체된 토큰이 다시 들어오면 탈취로 보고 같은 로그인의 토큰을 모두 폐기한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    // 교체 직후 다른 탭의 동시 갱신 요청은 재사용 공격으로 보지 않음 (거절만 함)
+    private static final long REUSE_GRACE_SECONDS = 10;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final CacheService cacheService;
+
+    @Value("${jwt.refresh-expiration:1209600000}") // 14일
+    private long refreshExpiration;
+
+    // 새 로그인 - 새 family로 발급
+    @Transactional
+    public String issue(String username) {
+        return issue(username, UUID.randomUUID().toString());
+    }
+
+    // 유효한 토큰이면 폐기하고 같은 family로 새 토큰 발급 (유효하지 않으면 empty)
+    @Transactional
+    public Optional<Rotation> rotate(String rawToken) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken token = found.get();
+        if (token.getRevokedAt() != null) {
+            if (token.isRotated() && token.getRevokedAt().plusSeconds(REUSE_GRACE_SECONDS).isBefore(now)) {
+                int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+                log.warn("리프레시 토큰 재사용 감지: 사용자={}, 폐기된 토큰 {}개", token.getUsername(), revoked);
+                closeWebSocketSessions(token.getUsername());
+            }
+            return Optional.empty();
+        }
+        if (token.getExpiresAt().isBefore(now)) {
+            return Optional.empty();
+        }
+
+        token.setRevokedAt(now);
+        token.setRotated(true);
+        return Optional.of(new Rotation(token.getUsername(), issue(token.getUsername(), token.getFamilyId())));
+    }
+
+    // 로그아웃 - 해당 토큰만 폐기
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .filter(token -> token.getRevokedAt() == null)
+                .ifPresent(token -> token.setRevokedAt(LocalDateTime.now()));
+    }
+
+    // 탈퇴/비밀번호 재발급 등 - 사용자의 모든 토큰 폐기 (열려 있는 WebSocket 연결도 모든 노드에서 닫음)
+    @Transactional
+    public void revokeAll(String username) {
+        refreshTokenRepository.revokeAllByUsername(username, LocalDateTime.now());
+        closeWebSocketSessions(username);
+    }
+
+    // 로그인 폐기/권한 변경 - 커밋 후 사용자의 WebSocket 세션 종료 (클라이언트는 새 토큰으로 다시 접속)
+    public void closeWebSocketSessions(String username) {
+        cacheService.evictAfterCommit(CacheConfig.WS_SESSIONS, username);
+    }
+
+    // 매일 새벽 만료된 지 하루 지난 토큰 삭제
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now().minusDays(1));
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 {}개 삭제", deleted);
+        }
+    }
+
+    private String issue(String username, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000);
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), familyId, username, expiresAt));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public record Rotation(String username, String refreshToken) {
+    }
+}
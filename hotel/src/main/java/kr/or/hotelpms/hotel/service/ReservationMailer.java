@@ -0,0 +1,79 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.or.hotelpms.hotel.model.Reservation;
+import kr.or.hotelpms.hotel.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 관련 안내 메일 등록 (확정/변경/취소, 전날 체크인 안내).
+ * 호출한 트랜잭션에 outbox로만 등록하고 렌더링/발송은 MailOutboxWorker가 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationMailer {
+
+    private final MailOutboxService mailOutboxService;
+    private final ReservationRepository reservationRepository;
+
+    // 단체 예약은 객실 목록을 한 통에 담아 보냄
+    public void confirmed(List<Reservation> reservations) {
+        if (!reservations.isEmpty()) {
+            Reservation first = reservations.get(0);
+            mailOutboxService.enqueue(first.getUser().getEmail(), "reservation-confirmed", model(reservations));
+        }
+    }
+
+    public void changed(Reservation reservation) {
+        mailOutboxService.enqueue(reservation.getUser().getEmail(), "reservation-changed", model(List.of(reservation)));
+    }
+
+    public void cancelled(Reservation reservation) {
+        mailOutboxService.enqueue(reservation.getUser().getEmail(), "reservation-cancelled", model(List.of(reservation)));
+    }
+
+    // 매일 오전 10시 내일 체크인 예정 고객에게 안내 (한 번에 등록, 워커가 SMTP 연결 단위로 묶어 발송)
+    @Scheduled(cron = "0 0 10 * * *")
+    @Transactional
+    public void sendCheckInReminders() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        List<MailOutboxService.QueuedMail> mails = reservationRepository.findReservedCheckingInOn(tomorrow).stream()
+                .map(reservation -> new MailOutboxService.QueuedMail(
+                        reservation.getUser().getEmail(),
+                        "checkin-reminder",
+                        model(List.of(reservation)),
+                        "checkin-reminder:" + reservation.getId() + ":" + tomorrow))
+                .toList();
+
+        int queued = mailOutboxService.enqueueAll(mails);
+        log.info("체크인 안내 메일 {}건 등록 (대상 {}건)", queued, mails.size());
+    }
+
+    private Map<String, String> model(List<Reservation> reservations) {
+        Reservation first = reservations.get(0);
+        Map<String, String> model = new HashMap<>();
+        model.put("name", first.getUser().getName());
+        model.put("reservationIds", reservations.stream()
+                .map(reservation -> String.valueOf(reservation.getId()))
+                .collect(Collectors.joining(", ")));
+        model.put("roomNumbers", reservations.stream()
+                .map(reservation -> reservation.getRoom().getRoomNumber())
+                .collect(Collectors.joining(", ")));
+        model.put("roomType", first.getRoom().getRoomType());
+        model.put("checkIn", first.getCheckIn().toString());
+        model.put("checkOut", first.getCheckOut().toString());
+        model.put("people", String.valueOf(reservations.stream().mapToInt(Reservation::getPeople).sum()));
+        return model;
+    }
+}
@@ -8,7 +8,9 @@ import kr.or.hotelpms.hotel.repository.ReservationRepository;
 import kr.or.hotelpms.hotel.repository.RoomRepository;
 import kr.or.hotelpms.hotel.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -22,6 +24,11 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final RoomService roomService;
+    private final ReservationMailer reservationMailer;
+    private final NotificationService notificationService;
+    private final PushService pushService;
 
     public Long getUserIdByUsername(String username) {
         return userRepository.findByUsername(username)
@@ -29,71 +36,164 @@ public class ReservationService {
                 .getId();
     }
 
-    @Transactional
+    // 애플리케이션 시작 시 객실 예약 인덱스 적재
+    public void rebuildAvailabilityIndex() {
+        roomAvailabilityIndex.rebuild();
+    }
+
+    // 동시 예약 시 객실 배정 재시도 횟수 (잠근 뒤 다른 요청이 먼저 예약한 것으로 확인된 경우)
+    private static final int MAX_ASSIGN_ATTEMPTS = 5;
+    // 단체 예약 한 건에서 배정할 수 있는 최대 객실 수
+    private static final int MAX_BATCH_ROOMS = 50;
+    // 관리자 예약 목록 한 페이지 최대 크기
+    private static final int MAX_ADMIN_PAGE_SIZE = 100;
+
+    // 예약 생성은 객실 행 잠금(SELECT ... FOR UPDATE) 후 겹침을 다시 확인하므로,
+    // 잠금 이후 조회가 최신 커밋을 보도록 READ_COMMITTED 로 실행
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Reservation createReservationByUsername(ReservationDto.ReservationRequest request) {
-        Long userId = getUserIdByUsername(request.getUsername());
+        User user = userRepository.findByUsername(request.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
         
         // 방 타입을 기반으로 사용 가능한 방 자동 배정
         if (request.getRoomType() == null || request.getRoomType().isEmpty()) {
             throw new IllegalArgumentException("방타입이 필요합니다.");
         }
+        validateStayDates(request.getCheckIn(), request.getCheckOut());
         
-        Long roomId = findAvailableRoomByType(request.getRoomType(), request.getCheckIn(), request.getCheckOut());
+        Room room = lockAvailableRoomByType(request.getRoomType(), request.getCheckIn(), request.getCheckOut());
         
-        return createReservation(userId, roomId, request);
+        return saveReservation(user, room, request);
     }
-    
-    // 방 타입을 기반으로 사용 가능한 방 찾기 (가장 작은 호수부터 우선 배정)
-    private Long findAvailableRoomByType(String roomType, LocalDate checkIn, LocalDate checkOut) {
-        List<Room> roomsOfType = roomRepository.findByRoomTypeIgnoreCase(roomType).stream()
-                .sorted((room1, room2) -> {
-                    // 방번호를 숫자로 변환하여 정렬
-                    try {
-                        Integer roomNum1 = Integer.parseInt(room1.getRoomNumber());
-                        Integer roomNum2 = Integer.parseInt(room2.getRoomNumber());
-                        return roomNum1.compareTo(roomNum2);
-                    } catch (NumberFormatException e) {
-                        // 숫자가 아닌 경우 문자열로 정렬
-                        return room1.getRoomNumber().compareTo(room2.getRoomNumber());
-                    }
-                })
+
+    // 단체 예약: 같은 타입 객실 N개를 한 트랜잭션에서 배정 (전부 성공하거나 전부 실패)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<Reservation> createReservationsBatch(ReservationDto.BatchReservationRequest request) {
+        User user = userRepository.findByUsername(request.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
+
+        if (request.getRoomType() == null || request.getRoomType().isEmpty()) {
+            throw new IllegalArgumentException("방타입이 필요합니다.");
+        }
+        if (request.getRoomCount() < 1 || request.getRoomCount() > MAX_BATCH_ROOMS) {
+            throw new IllegalArgumentException("단체 예약 객실 수는 1개 이상 " + MAX_BATCH_ROOMS + "개 이하여야 합니다.");
+        }
+        validateStayDates(request.getCheckIn(), request.getCheckOut());
+
+        List<Room> rooms = lockAvailableRoomsByType(request.getRoomType(), request.getCheckIn(),
+                request.getCheckOut(), request.getRoomCount());
+
+        List<Reservation> reservations = rooms.stream()
+                .map(room -> newReservation(user, room, request))
                 .toList();
-                
-        if (roomsOfType.isEmpty()) {
-            throw new IllegalArgumentException("해당 타입의 방이 없습니다: " + roomType);
+        // hibernate.jdbc.batch_size 설정으로 한 번의 flush에서 묶어서 저장
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+        saved.forEach(roomAvailabilityIndex::recordAfterCommit);
+        reservationMailer.confirmed(saved);
+        saved.forEach(reservation -> notifyOwner(reservation, "RESERVATION_CONFIRMED", "예약이 확정되었습니다."));
+        return saved;
+    }
+
+    // 빈 방 N개를 한 번의 조회로 고른 뒤 id 순으로 한꺼번에 잠그고 다시 확인
+    private List<Room> lockAvailableRoomsByType(String roomType, LocalDate checkIn, LocalDate checkOut, int count) {
+        for (int attempt = 0; attempt < MAX_ASSIGN_ATTEMPTS; attempt++) {
+            List<Room> candidates = roomRepository.findAvailableByType(roomType, checkIn, checkOut, count);
+            if (candidates.size() < count) {
+                if (roomService.getRoomsByType(roomType).isEmpty()) {
+                    throw new IllegalArgumentException("해당 타입의 방이 없습니다: " + roomType);
+                }
+                throw new IllegalStateException("해당 기간에 " + roomType + " 타입의 예약 가능한 방이 "
+                        + candidates.size() + "개뿐입니다. (요청: " + count + "개)");
+            }
+
+            List<Long> roomIds = candidates.stream().map(Room::getId).toList();
+            roomRepository.findAllByIdInForUpdate(roomIds);
+            List<Reservation> overlaps = reservationRepository
+                    .findByRoomIdInAndCheckOutAfterAndCheckInBefore(roomIds, checkIn, checkOut);
+            if (overlaps.isEmpty()) {
+                return candidates;
+            }
+            overlaps.forEach(roomAvailabilityIndex::record);
         }
-        
-        // 예약 가능한 방 찾기 (가장 작은 호수부터)
-        for (Room room : roomsOfType) {
-            boolean isAvailable = reservationRepository
-                    .findByRoomIdAndCheckOutAfterAndCheckInBefore(room.getId(), checkIn, checkOut)
-                    .isEmpty();
-            if (isAvailable) {
-                return room.getId();
+        throw new IllegalStateException("예약이 몰려 객실 배정에 실패했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    // 방 타입으로 빈 방을 골라 잠근 뒤 반환 (가장 작은 호수부터 우선 배정)
+    // 같은 객실을 노리는 요청끼리만 직렬화되고, 서로 다른 객실 예약은 동시에 진행됨
+    private Room lockAvailableRoomByType(String roomType, LocalDate checkIn, LocalDate checkOut) {
+        boolean useIndex = true;
+        for (int attempt = 0; attempt < MAX_ASSIGN_ATTEMPTS; attempt++) {
+            Room room = lockRoom(findAvailableRoomByType(roomType, checkIn, checkOut, useIndex));
+            List<Reservation> overlaps = reservationRepository
+                    .findByRoomIdAndCheckOutAfterAndCheckInBefore(room.getId(), checkIn, checkOut);
+            if (overlaps.isEmpty()) {
+                return room;
             }
+            // 잠그기 전에 다른 요청(또는 다른 인스턴스)이 먼저 예약한 경우 - 인덱스에 반영하고 다음 후보로
+            overlaps.forEach(roomAvailabilityIndex::record);
+            // 인덱스는 노드별이라 다른 노드의 예약이 빠져 있을 수 있음 - 한 번 빗나가면 이후 후보는 DB에서
+            useIndex = false;
         }
-        
-        throw new IllegalStateException("해당 기간에 " + roomType + " 타입의 예약 가능한 방이 없습니다.");
+        throw new IllegalStateException("예약이 몰려 객실 배정에 실패했습니다. 잠시 후 다시 시도해 주세요.");
     }
+    
+    // 방 타입을 기반으로 사용 가능한 방 찾기 (가장 작은 호수부터 우선 배정)
+    private Long findAvailableRoomByType(String roomType, LocalDate checkIn, LocalDate checkOut, boolean useIndex) {
+        // 인덱스가 해당 기간을 다룰 수 있으면 객실 스냅샷과 인덱스로 후보를 고름 (확인은 잠금 후 DB에서)
+        if (useIndex && roomAvailabilityIndex.covers(checkIn)) {
+            for (Room room : roomService.getRoomsByType(roomType)) {
+                if (roomAvailabilityIndex.isFree(room.getId(), checkIn, checkOut)) {
+                    return room.getId();
+                }
+            }
+        }
 
-    @Transactional
+        // 인덱스로 찾지 못하면 겹치는 예약이 없는 첫 객실을 쿼리 한 번으로 조회
+        return roomRepository.findFirstAvailableByType(roomType, checkIn, checkOut)
+                .map(Room::getId)
+                .orElseThrow(() -> !roomService.getRoomsByType(roomType).isEmpty()
+                        ? new IllegalStateException("해당 기간에 " + roomType + " 타입의 예약 가능한 방이 없습니다.")
+                        : new IllegalArgumentException("해당 타입의 방이 없습니다: " + roomType));
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Reservation createReservation(Long userId, Long roomId, ReservationDto.ReservationRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 객실입니다."));
+        validateStayDates(request.getCheckIn(), request.getCheckOut());
 
-        if (!request.getCheckIn().isBefore(request.getCheckOut())) {
-            throw new IllegalArgumentException("체크인 날짜는 체크아웃 날짜보다 앞서야 합니다.");
-        }
-
-        boolean overlapExists = reservationRepository
+        Room room = lockRoom(roomId);
+        boolean overlapExists = !reservationRepository
                 .findByRoomIdAndCheckOutAfterAndCheckInBefore(roomId, request.getCheckIn(), request.getCheckOut())
-                .size() > 0;
+                .isEmpty();
         if (overlapExists) {
             throw new IllegalStateException("해당 기간에 이미 예약이 존재합니다.");
         }
 
+        return saveReservation(user, room, request);
+    }
+
+    // 객실 행 잠금 - 트랜잭션이 끝날 때까지 같은 객실의 다른 예약 생성/변경은 대기
+    private Room lockRoom(Long roomId) {
+        return roomRepository.findByIdForUpdate(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 객실입니다."));
+    }
+
+    private void validateStayDates(LocalDate checkIn, LocalDate checkOut) {
+        if (!checkIn.isBefore(checkOut)) {
+            throw new IllegalArgumentException("체크인 날짜는 체크아웃 날짜보다 앞서야 합니다.");
+        }
+    }
+
+    private Reservation saveReservation(User user, Room room, ReservationDto.ReservationRequest request) {
+        Reservation saved = reservationRepository.save(newReservation(user, room, request));
+        roomAvailabilityIndex.recordAfterCommit(saved);
+        reservationMailer.confirmed(List.of(saved));
+        notifyOwner(saved, "RESERVATION_CONFIRMED", "예약이 확정되었습니다.");
+        return saved;
+    }
+
+    private Reservation newReservation(User user, Room room, ReservationDto.ReservationRequest request) {
         Reservation reservation = new Reservation();
         reservation.setUser(user);
         reservation.setRoom(room);
@@ -105,40 +205,65 @@ public class ReservationService {
         reservation.setMessage(request.getMessage()); // 요청사항 추가 (getSpecialRequests() -> getMessage())
         reservation.setPaymentStatus("PENDING");
         reservation.setStatus("RESERVED");
-
-        return reservationRepository.save(reservation);
+        return reservation;
     }
 
     @Transactional(readOnly = true)
     public List<ReservationDto.ReservationResponse> getAllReservations() {
-        return reservationRepository.findAll().stream()
+        return reservationRepository.findAllViews().stream()
                 .map(ReservationDto.ReservationResponse::new)
                 .collect(Collectors.toList());
     }
 
+    // 관리자 예약 목록 (필터 + 키셋 페이지네이션) - 깊은 페이지도 첫 페이지와 같은 비용
+    @Transactional(readOnly = true)
+    public ReservationDto.ReservationPage searchReservations(String status, LocalDate from, LocalDate to,
+                                                             String roomType, String guestName,
+                                                             Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_ADMIN_PAGE_SIZE);
+        List<ReservationDto.ReservationView> rows = reservationRepository.findAdminPage(cursor, emptyToNull(status),
+                emptyToNull(roomType), from, to, emptyToNull(guestName), Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ReservationDto.ReservationView> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+
+        return new ReservationDto.ReservationPage(
+                page.stream().map(ReservationDto.ReservationResponse::new).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     @Transactional(readOnly = true)
     public List<ReservationDto.ReservationResponse> getReservationsByUser(Long userId) {
-        return reservationRepository.findByUserId(userId).stream()
+        return reservationRepository.findViewsByUserId(userId).stream()
                 .map(ReservationDto.ReservationResponse::new)
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public void deleteReservation(Long reservationId) {
-        reservationRepository.deleteById(reservationId);
+        reservationRepository.findById(reservationId).ifPresent(reservation -> {
+            reservationMailer.cancelled(reservation);
+            notifyOwner(reservation, "RESERVATION_CANCELLED", "예약이 취소되었습니다.");
+            reservationRepository.delete(reservation);
+        });
+        roomAvailabilityIndex.removeAfterCommit(reservationId);
     }
 
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Reservation updateReservation(Long reservationId, ReservationDto.ReservationRequest request) {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
 
-        Room room = roomRepository.findByRoomNumber(request.getRoomNumber())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 객실입니다."));
+        validateStayDates(request.getCheckIn(), request.getCheckOut());
 
-        if (!request.getCheckIn().isBefore(request.getCheckOut())) {
-            throw new IllegalArgumentException("체크인 날짜는 체크아웃 날짜보다 앞서야 합니다.");
-        }
+        // 변경 대상 객실을 잠근 뒤 겹침 확인
+        Room room = roomRepository.findByRoomNumberForUpdate(request.getRoomNumber())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 객실입니다."));
 
         boolean overlapExists = reservationRepository
                 .findByRoomIdAndCheckOutAfterAndCheckInBefore(room.getId(), request.getCheckIn(), request.getCheckOut())
@@ -156,13 +281,17 @@ public class ReservationService {
         reservation.setGuestPhone(request.getGuestPhone());
         reservation.setMessage(request.getMessage()); // 요청사항 추가 (getSpecialRequests() -> getMessage())
 
-        return reservationRepository.saveAndFlush(reservation);
+        Reservation updated = reservationRepository.saveAndFlush(reservation);
+        roomAvailabilityIndex.recordAfterCommit(updated);
+        reservationMailer.changed(updated);
+        notifyOwner(updated, "RESERVATION_CHANGED", "예약이 변경되었습니다.");
+        return updated;
     }
 
     @Transactional(readOnly = true)
     public List<ReservationDto.ReservationResponse> getReservationsByDate(LocalDate date) {
-        // DB에서 직접 필터링하여 성능 개선
-        return reservationRepository.findByCheckInLessThanEqualAndCheckOutAfter(date, date).stream()
+        // DB에서 직접 필터링하고 응답에 필요한 컬럼만 조인 한 번으로 조회
+        return reservationRepository.findViewsActiveOn(date).stream()
                 .map(ReservationDto.ReservationResponse::new)
                 .collect(Collectors.toList());
     }
@@ -171,7 +300,26 @@ public class ReservationService {
     public Reservation updateStatus(Long reservationId, String status) {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
+        boolean cancelled = "CANCELLED".equals(status) && !"CANCELLED".equals(reservation.getStatus());
+        boolean changed = status != null && !status.equals(reservation.getStatus());
         reservation.setStatus(status);
+        if (changed) {
+            pushService.reservationStatusChanged(reservation);
+        }
+        if (cancelled) {
+            reservationMailer.cancelled(reservation);
+            notifyOwner(reservation, "RESERVATION_CANCELLED", "예약이 취소되었습니다.");
+        } else if (changed) {
+            notifyOwner(reservation, "RESERVATION_STATUS_CHANGED", "예약 상태가 " + status + "(으)로 변경되었습니다.");
+        }
         return reservationRepository.save(reservation);
     }
+
+    // 예약자에게 알림 (커밋 후 대기열에 넣고 배치로 저장)
+    private void notifyOwner(Reservation reservation, String type, String title) {
+        String message = reservation.getRoom().getRoomNumber() + "호 " +
+                reservation.getCheckIn() + " ~ " + reservation.getCheckOut();
+        notificationService.notify(reservation.getUser().getUsername(), type, title, message,
+                reservation.getId(), "RESERVATION");
+    }
 }
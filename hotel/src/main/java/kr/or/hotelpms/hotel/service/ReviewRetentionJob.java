@@ -0,0 +1,121 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.or.hotelpms.hotel.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 보관 정책 정리 작업.
+ * 최대 개수(max-count)와 최대 보관 기간(max-age-days)을 넘는 리뷰를 오래된 순으로 찾아
+ * chunk-size 단위 트랜잭션으로 나눠 삭제한다 (0이면 해당 정책은 사용하지 않음).
+ * 모든 노드가 같은 cron으로 실행되므로 MariaDB 이름 잠금(GET_LOCK)을 잡은 노드 하나만 정리하고
+ * 나머지는 이번 회차를 건너뛴다. 잠금은 연결 단위라 실행 동안 연결 하나를 붙잡고, 노드가 죽으면 연결과 함께 풀린다.
+ */
+@Slf4j
+@Component
+public class ReviewRetentionJob {
+
+    // 한 번 실행에서 처리할 최대 묶음 수 (밀린 양이 많아도 한 번에 오래 붙잡지 않도록)
+    private static final int MAX_CHUNKS_PER_RUN = 100;
+    static final String LOCK_NAME = "hotel.review-retention";
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewService reviewService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxCount;
+    private final int maxAgeDays;
+    private final int chunkSize;
+
+    public ReviewRetentionJob(ReviewRepository reviewRepository,
+                              ReviewService reviewService,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${hotel.review.retention.max-count:100}") int maxCount,
+                              @Value("${hotel.review.retention.max-age-days:0}") int maxAgeDays,
+                              @Value("${hotel.review.retention.chunk-size:50}") int chunkSize) {
+        this.reviewRepository = reviewRepository;
+        this.reviewService = reviewService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCount = maxCount;
+        this.maxAgeDays = maxAgeDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${hotel.review.retention.cron:0 */10 * * * *}")
+    public void purge() {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            // 대기 없이 시도 - 다른 노드가 정리 중이면 이번 회차는 그 노드에 맡김
+            if (!tryLock(connection)) {
+                return false;
+            }
+            try {
+                purgeNow();
+            } finally {
+                releaseLock(connection);
+            }
+            return true;
+        });
+        if (!Boolean.TRUE.equals(ran)) {
+            log.debug("다른 노드가 리뷰 보관 정책 정리 중 - 이번 회차 건너뜀");
+        }
+    }
+
+    // 잠금을 잡은 상태에서 실행하는 정리 본체
+    int purgeNow() {
+        int deleted = 0;
+        if (maxAgeDays > 0) {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+            deleted += deleteInChunks(() -> reviewRepository.findIdsCreatedBefore(cutoff, chunkSize));
+        }
+        if (maxCount > 0) {
+            deleted += deleteInChunks(() -> reviewRepository.findIdsBeyondNewest(maxCount, chunkSize));
+        }
+        if (deleted > 0) {
+            log.info("보관 정책에 따라 리뷰 {}건 삭제", deleted);
+        }
+        return deleted;
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.execute();
+        }
+    }
+
+    private int deleteInChunks(Supplier<List<Long>> nextChunk) {
+        int deleted = 0;
+        for (int i = 0; i < MAX_CHUNKS_PER_RUN; i++) {
+            List<Long> ids = nextChunk.get();
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += reviewService.deleteReviewsChunk(ids);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+}
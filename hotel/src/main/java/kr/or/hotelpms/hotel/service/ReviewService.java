@@ -1,65 +1,119 @@
 package kr.or.hotelpms.hotel.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import kr.or.hotelpms.hotel.config.CacheConfig;
 import kr.or.hotelpms.hotel.dto.ReviewDto;
 import kr.or.hotelpms.hotel.model.Review;
-import kr.or.hotelpms.hotel.model.ReviewLike;
+import kr.or.hotelpms.hotel.repository.CommentRepository;
 import kr.or.hotelpms.hotel.repository.ReviewLikeRepository;
 import kr.or.hotelpms.hotel.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional
 public class ReviewService {
 
+    // 리뷰 목록 캐시 대상 (그 밖의 요청은 캐시 없이 바로 조회)
+    private static final int CACHEABLE_PAGE_LIMIT = 20;
+    private static final int CACHEABLE_PAGE_SIZE_LIMIT = 50;
+    private static final Set<String> CACHEABLE_SORT_PROPERTIES = Set.of("createdAt", "rating", "likeCount", "id");
+    // 좋아요 토글 교착 시 최대 실행 횟수
+    private static final int MAX_LIKE_ATTEMPTS = 5;
+    // 시작 시 댓글 수 보정 한 번에 다루는 리뷰 id 구간
+    private static final int COMMENT_RECOUNT_CHUNK = 1000;
+
     private final ReviewRepository reviewRepository;
     private final ReviewLikeRepository reviewLikeRepository;
-    private static final int MAX_REVIEWS = 100;
-
-    public ReviewService(ReviewRepository reviewRepository, ReviewLikeRepository reviewLikeRepository) {
+    private final CommentRepository commentRepository;
+    private final CacheService cacheService;
+    private final NotificationService notificationService;
+    private final LikeCountBuffer likeCountBuffer;
+    // 좋아요 토글용 - 없는 키 검색에 갭 잠금이 걸리지 않도록 READ_COMMITTED
+    private final TransactionTemplate likeTransactionTemplate;
+
+    public ReviewService(ReviewRepository reviewRepository, ReviewLikeRepository reviewLikeRepository,
+                         CommentRepository commentRepository,
+                         CacheService cacheService, NotificationService notificationService,
+                         LikeCountBuffer likeCountBuffer, PlatformTransactionManager transactionManager) {
         this.reviewRepository = reviewRepository;
         this.reviewLikeRepository = reviewLikeRepository;
+        this.commentRepository = commentRepository;
+        this.cacheService = cacheService;
+        this.notificationService = notificationService;
+        this.likeCountBuffer = likeCountBuffer;
+        this.likeTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.likeTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
     }
 
+    // 페이지 내용은 공유 캐시에서 가져오고, 로그인 사용자의 좋아요 여부만 따로 조회해 덧씌움
+    // 캐시를 놓쳐도 리뷰 목록 + 전체 개수 + 좋아요 여부 3번의 쿼리 (댓글 수는 reviews.comment_count 컬럼)
     @Transactional(readOnly = true)
     public Page<ReviewDto> getAllReviews(Pageable pageable, UserDetails currentUser) {
-        Page<Review> reviewsPage = reviewRepository.findAll(pageable);
+        ReviewDto.CachedPage cachedPage = isCacheablePage(pageable)
+                ? cacheService.getOrLoad(CacheConfig.REVIEW_PAGES, reviewPageKey(pageable), () -> loadReviewPage(pageable))
+                : loadReviewPage(pageable);
         Set<Long> likedReviewIds = Collections.emptySet();
 
         if (currentUser != null) {
-            List<Long> reviewIds = reviewsPage.getContent().stream()
-                    .map(Review::getId)
+            List<Long> reviewIds = cachedPage.content().stream()
+                    .map(ReviewDto::getId)
                     .collect(Collectors.toList());
 
             if (!reviewIds.isEmpty()) {
-                likedReviewIds = reviewLikeRepository.findByReviewIdInAndUsername(reviewIds, currentUser.getUsername())
-                        .stream()
-                        .map(like -> like.getReview().getId())
-                        .collect(Collectors.toSet());
+                likedReviewIds = reviewLikeRepository.findLikedReviewIds(reviewIds, currentUser.getUsername());
             }
         }
 
         final Set<Long> finalLikedReviewIds = likedReviewIds;
-        return reviewsPage.map(review -> new ReviewDto(review, finalLikedReviewIds.contains(review.getId())));
+        List<ReviewDto> content = cachedPage.content().stream()
+                .map(review -> new ReviewDto(review, finalLikedReviewIds.contains(review.getId())))
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, cachedPage.totalElements());
+    }
+
+    private ReviewDto.CachedPage loadReviewPage(Pageable pageable) {
+        Page<Review> reviewsPage = reviewRepository.findAll(pageable);
+        List<ReviewDto> content = reviewsPage.getContent().stream()
+                .map(review -> new ReviewDto(review, false))
+                .collect(Collectors.toList());
+        return new ReviewDto.CachedPage(content, reviewsPage.getTotalElements());
+    }
+
+    // 캐시 키는 클라이언트가 정하는 값이라 앞쪽 페이지 / 허용된 크기 / 허용된 정렬만 캐시
+    private boolean isCacheablePage(Pageable pageable) {
+        return pageable.getPageNumber() < CACHEABLE_PAGE_LIMIT
+                && pageable.getPageSize() <= CACHEABLE_PAGE_SIZE_LIMIT
+                && pageable.getSort().stream().allMatch(order -> CACHEABLE_SORT_PROPERTIES.contains(order.getProperty()));
+    }
+
+    private String reviewPageKey(Pageable pageable) {
+        String sort = pageable.getSort().stream()
+                .map(order -> order.getProperty() + "," + order.getDirection())
+                .collect(Collectors.joining(";"));
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + sort;
     }
 
+    // 리뷰 보관 개수/기간 정리는 ReviewRetentionJob이 주기적으로 처리 (작성은 INSERT 한 번)
     private Review saveReview(Review review) {
         Review savedReview = reviewRepository.save(review);
-        long totalReviews = reviewRepository.count();
-        if (totalReviews > MAX_REVIEWS) {
-            reviewRepository.findFirstByOrderByCreatedAtAsc()
-                    .ifPresent(reviewRepository::delete);
-        }
+        cacheService.clearAfterCommit(CacheConfig.REVIEW_PAGES);
         return savedReview;
     }
 
@@ -73,6 +127,7 @@ public class ReviewService {
                 .orElseThrow(() -> new EntityNotFoundException("Review not found with id: " + id));
         review.setContent(content);
         review.setRating(rating);
+        cacheService.clearAfterCommit(CacheConfig.REVIEW_PAGES);
         boolean isLiked = reviewLikeRepository.findByReviewIdAndUsername(id, userDetails.getUsername()).isPresent();
         return new ReviewDto(review, isLiked);
     }
@@ -82,28 +137,85 @@ public class ReviewService {
             throw new EntityNotFoundException("Review not found with id: " + id);
         }
         reviewRepository.deleteById(id);
+        cacheService.clearAfterCommit(CacheConfig.REVIEW_PAGES);
     }
 
-    private Review toggleLikeInternal(Long reviewId, String username) {
+    // 좋아요 토글: 삭제를 먼저 시도하고 지운 게 없으면 INSERT IGNORE
+    // 카운터는 실제로 바뀐 행이 있을 때만 버퍼에 증감분을 넣고(배치로 반영), 결과 상태는 다시 조회하지 않음
+    // 같은 리뷰에 동시 토글이 몰리면 유니크 키 검사 잠금끼리 교착될 수 있어, 교착/잠금 대기 실패 시 트랜잭션째 다시 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReviewDto toggleLikeAndGetDto(Long reviewId, String username) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return likeTransactionTemplate.execute(status -> toggleLike(reviewId, username));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_LIKE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("좋아요 토글 잠금 충돌 - 재시도 {}/{}: review={}", attempt, MAX_LIKE_ATTEMPTS, reviewId);
+            }
+        }
+    }
+
+    private ReviewDto toggleLike(Long reviewId, String username) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new EntityNotFoundException("Review not found with id: " + reviewId));
 
-        Optional<ReviewLike> existingLike = reviewLikeRepository.findByReviewIdAndUsername(reviewId, username);
-
-        if (existingLike.isPresent()) {
-            reviewLikeRepository.delete(existingLike.get());
-            review.setLikeCount(review.getLikeCount() - 1);
+        boolean likedNow;
+        int delta = 0;
+        if (reviewLikeRepository.deleteLike(reviewId, username) > 0) {
+            likedNow = false;
+            delta = -1;
+        } else if (reviewLikeRepository.insertLikeIfAbsent(reviewId, username) > 0) {
+            likedNow = true;
+            delta = 1;
+            // 다른 사람이 누른 좋아요만 작성자에게 알림
+            if (!username.equals(review.getUsername())) {
+                notificationService.notify(review.getUsername(), "REVIEW_LIKED", "리뷰에 좋아요가 눌렸습니다.",
+                        username + "님이 회원님의 리뷰를 좋아합니다.", review.getId(), "REVIEW");
+            }
         } else {
-            reviewLikeRepository.save(new ReviewLike(review, username));
-            review.setLikeCount(review.getLikeCount() + 1);
+            // 0건: 같은 사용자의 동시 요청이 먼저 넣었거나(이미 좋아요 상태), 그 사이 리뷰가 삭제되어 FK 검사에서 무시된 경우
+            if (!reviewRepository.existsById(reviewId)) {
+                throw new EntityNotFoundException("Review not found with id: " + reviewId);
+            }
+            likedNow = true;
+        }
+
+        if (delta != 0) {
+            likeCountBuffer.add(reviewId, delta);
         }
-        return review;
+        // 응답용 값만 맞춤 - 아직 반영 전인 증감분 포함 (likeCount는 updatable=false라 엔티티로는 저장되지 않음)
+        review.setLikeCount((int) Math.max(0, review.getLikeCount() + likeCountBuffer.pendingDelta(reviewId) + delta));
+        return new ReviewDto(review, likedNow);
     }
 
-    public ReviewDto toggleLikeAndGetDto(Long reviewId, String username) {
-        Review updatedReview = this.toggleLikeInternal(reviewId, username);
-        boolean isLikedNow = reviewLikeRepository.findByReviewIdAndUsername(reviewId, username).isPresent();
-        return new ReviewDto(updatedReview, isLikedNow);
+    // 보관 정책 정리: 리뷰 묶음을 좋아요/댓글과 함께 벌크 DELETE (엔티티 로딩 없이 한 트랜잭션)
+    public int deleteReviewsChunk(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return 0;
+        }
+        reviewLikeRepository.deleteByReviewIds(reviewIds);
+        commentRepository.detachByReviewIds(reviewIds);
+        commentRepository.deleteByReviewIds(reviewIds);
+        int deleted = reviewRepository.deleteByIds(reviewIds);
+        cacheService.clearAfterCommit(CacheConfig.REVIEW_PAGES);
+        return deleted;
+    }
+
+    // 댓글 수 컬럼 보정 (시작 시 한 번) - id 구간별로 어긋난 리뷰만 UPDATE해 전체 행 잠금 없이 끝냄
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int recountComments() {
+        long maxId = reviewRepository.findMaxId();
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += COMMENT_RECOUNT_CHUNK) {
+            repaired += reviewRepository.recountCommentsBetween(fromId, fromId + COMMENT_RECOUNT_CHUNK - 1);
+        }
+        if (repaired > 0) {
+            log.info("댓글 수가 어긋난 리뷰 {}건 보정", repaired);
+            cacheService.clearAfterCommit(CacheConfig.REVIEW_PAGES);
+        }
+        return repaired;
     }
 
     public Review findById(Long id) {
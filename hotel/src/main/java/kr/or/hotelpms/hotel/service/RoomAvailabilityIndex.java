@@ -0,0 +1,167 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.or.hotelpms.hotel.dto.ReservationDto;
+import kr.or.hotelpms.hotel.model.Reservation;
+import kr.or.hotelpms.hotel.repository.ReservationRepository;
+import kr.or.hotelpms.hotel.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 객실별 예약된 숙박일(night)을 메모리에 들고 있는 인덱스.
+ * 빈 방 후보를 DB 왕복 없이 골라내기 위한 용도이며, 최종 확인은 항상 DB에서 한다.
+ * 시작 시 ReservationRepository로부터 재구성되고, 예약 생성/수정/삭제가 커밋된 뒤 갱신된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAvailabilityIndex {
+
+    private final ReservationRepository reservationRepository;
+
+    // roomId -> 해당 객실의 숙박 구간들
+    private final Map<Long, RoomNights> nightsByRoom = new ConcurrentHashMap<>();
+    // reservationId -> 인덱스에 올라간 위치 (수정/삭제 시 기존 구간 제거용)
+    private final Map<Long, Placement> placements = new ConcurrentHashMap<>();
+
+    // 이 날짜 이후 체크인 조회만 인덱스로 답할 수 있음 (이전 예약은 적재하지 않음)
+    private volatile LocalDate horizon;
+    private volatile boolean ready = false;
+
+    // 시작 시 오늘 이후로 체크아웃하는 예약을 모두 적재
+    public void rebuild() {
+        LocalDate from = LocalDate.now();
+        List<ReservationDto.StayWindow> stays = reservationRepository.findStayWindowsCheckingOutAfter(from);
+
+        ready = false;
+        nightsByRoom.clear();
+        placements.clear();
+        stays.forEach(stay -> record(stay.getId(), stay.getRoomId(), stay.getCheckIn(), stay.getCheckOut()));
+        horizon = from;
+        ready = true;
+
+        log.info("객실 예약 인덱스 재구성 완료: 예약 {}건, 객실 {}개", stays.size(), nightsByRoom.size());
+    }
+
+    // 해당 체크인 날짜를 인덱스로 판단할 수 있는지 여부
+    public boolean covers(LocalDate checkIn) {
+        return ready && !checkIn.isBefore(horizon);
+    }
+
+    // [checkIn, checkOut) 구간에 겹치는 예약이 없는지 확인
+    public boolean isFree(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        RoomNights nights = nightsByRoom.get(roomId);
+        return nights == null || nights.isFree(checkIn.toEpochDay(), checkOut.toEpochDay());
+    }
+
+    // 이미 커밋된 예약을 즉시 반영 (DB 확인 중 발견한 예약 등)
+    public void record(Reservation reservation) {
+        record(reservation.getId(), reservation.getRoom().getId(), reservation.getCheckIn(), reservation.getCheckOut());
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤에 반영 (롤백된 예약이 방을 막지 않도록)
+    public void recordAfterCommit(Reservation reservation) {
+        Long reservationId = reservation.getId();
+        Long roomId = reservation.getRoom().getId();
+        LocalDate checkIn = reservation.getCheckIn();
+        LocalDate checkOut = reservation.getCheckOut();
+        TransactionUtil.afterCommit(() -> record(reservationId, roomId, checkIn, checkOut));
+    }
+
+    public void removeAfterCommit(Long reservationId) {
+        TransactionUtil.afterCommit(() -> remove(reservationId));
+    }
+
+    // 매일 자정 이후 지난 숙박 구간 정리
+    @Scheduled(cron = "0 10 0 * * *")
+    public void pruneExpired() {
+        if (!ready) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        long todayEpochDay = today.toEpochDay();
+        placements.entrySet().removeIf(entry -> {
+            Placement placement = entry.getValue();
+            if (placement.stay().end() > todayEpochDay) {
+                return false;
+            }
+            RoomNights nights = nightsByRoom.get(placement.roomId());
+            if (nights != null) {
+                nights.remove(placement.stay());
+            }
+            return true;
+        });
+        horizon = today;
+    }
+
+    private void record(Long reservationId, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        remove(reservationId);
+        Stay stay = new Stay(checkIn.toEpochDay(), checkOut.toEpochDay(), reservationId);
+        nightsByRoom.computeIfAbsent(roomId, id -> new RoomNights()).add(stay);
+        placements.put(reservationId, new Placement(roomId, stay));
+    }
+
+    private void remove(Long reservationId) {
+        Placement placement = placements.remove(reservationId);
+        if (placement != null) {
+            RoomNights nights = nightsByRoom.get(placement.roomId());
+            if (nights != null) {
+                nights.remove(placement.stay());
+            }
+        }
+    }
+
+    // 숙박 구간 [start, end) - epoch day 기준
+    private record Stay(long start, long end, long reservationId) {
+    }
+
+    private record Placement(Long roomId, Stay stay) {
+    }
+
+    // 한 객실의 숙박 구간 집합 (시작일 순 정렬)
+    private static final class RoomNights {
+
+        private static final Comparator<Stay> ORDER =
+                Comparator.comparingLong(Stay::start).thenComparingLong(Stay::reservationId);
+
+        private final NavigableSet<Stay> stays = new TreeSet<>(ORDER);
+        // 지금까지 들어온 가장 긴 숙박 일수 - 역방향 탐색을 어디서 멈출지 결정
+        private long longestStay = 0;
+
+        synchronized void add(Stay stay) {
+            stays.add(stay);
+            longestStay = Math.max(longestStay, stay.end() - stay.start());
+        }
+
+        synchronized void remove(Stay stay) {
+            stays.remove(stay);
+        }
+
+        synchronized boolean isFree(long start, long end) {
+            // end 이전에 시작하는 구간들을 늦게 시작한 것부터 확인
+            Iterator<Stay> candidates = stays.headSet(new Stay(end, end, Long.MIN_VALUE), false).descendingIterator();
+            while (candidates.hasNext()) {
+                Stay stay = candidates.next();
+                if (stay.end() > start) {
+                    return false;
+                }
+                if (stay.start() + longestStay <= start) {
+                    break;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package kr.or.hotelpms.hotel.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import kr.or.hotelpms.hotel.model.Room;
+import kr.or.hotelpms.hotel.model.RoomStatus;
+
+/**
+ * 객실 목록의 불변 스냅샷.
+ * 타입/상태/가격별 보조 인덱스를 미리 만들어 두고, 변경이 생기면 통째로 새로 만든다.
+ * 스냅샷의 Room은 영속성 컨텍스트와 분리된 복사본이며, 조회 결과로는 매번 새 복사본을 내보내
+ * 호출한 쪽에서 값을 바꿔도 공유 스냅샷에는 영향이 없다.
+ */
+final class RoomCatalog {
+
+    // 객실 번호 순 - SQL의 ORDER BY CAST(room_number AS UNSIGNED), room_number 와 같은 순서
+    // (앞쪽 숫자 값, 같으면 문자열 순 / 숫자로 시작하지 않으면 0으로 취급, 자릿수 제한 없음)
+    static final Comparator<Room> ROOM_NUMBER_ORDER =
+            Comparator.comparing(Room::getRoomNumber, RoomCatalog::compareRoomNumbers);
+
+    private final List<Room> all;
+    private final Map<Long, Room> byId;
+    private final Map<String, List<Room>> byType;
+    private final Map<RoomStatus, List<Room>> byStatus;
+    private final List<Room> byPrice;
+
+    private RoomCatalog(List<Room> all) {
+        this.all = Collections.unmodifiableList(all);
+        this.byId = all.stream().collect(Collectors.toUnmodifiableMap(Room::getId, room -> room));
+
+        Map<String, List<Room>> types = new HashMap<>();
+        all.forEach(room -> types.computeIfAbsent(typeKey(room.getRoomType()), key -> new ArrayList<>()).add(room));
+        types.replaceAll((type, rooms) -> rooms.stream().sorted(ROOM_NUMBER_ORDER).toList());
+        this.byType = Collections.unmodifiableMap(types);
+
+        Map<RoomStatus, List<Room>> statuses = new EnumMap<>(RoomStatus.class);
+        all.forEach(room -> statuses.computeIfAbsent(room.getStatus(), key -> new ArrayList<>()).add(room));
+        statuses.replaceAll((status, rooms) -> List.copyOf(rooms));
+        this.byStatus = Collections.unmodifiableMap(statuses);
+
+        this.byPrice = all.stream().sorted(Comparator.comparing(Room::getPrice)).toList();
+    }
+
+    static RoomCatalog of(List<Room> rooms) {
+        return new RoomCatalog(rooms.stream()
+                .map(RoomCatalog::detachedCopy)
+                .sorted(Comparator.comparing(Room::getId))
+                .collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    List<Room> all() {
+        return copies(all);
+    }
+
+    Optional<Room> byId(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(RoomCatalog::detachedCopy);
+    }
+
+    // 타입별 객실 (대소문자 무시, 객실 번호 순)
+    List<Room> byType(String type) {
+        return copies(byType.getOrDefault(typeKey(type), List.of()));
+    }
+
+    List<Room> byStatus(RoomStatus status) {
+        return copies(byStatus.getOrDefault(status, List.of()));
+    }
+
+    // 가격 범위 [min, max] - 가격순 목록에서 하한을 이진 탐색한 뒤 상한까지 순회
+    List<Room> byPriceRange(BigDecimal min, BigDecimal max) {
+        int low = 0;
+        int high = byPrice.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byPrice.get(mid).getPrice().compareTo(min) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        List<Room> result = new ArrayList<>();
+        for (int i = low; i < byPrice.size() && byPrice.get(i).getPrice().compareTo(max) <= 0; i++) {
+            result.add(detachedCopy(byPrice.get(i)));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<Room> copies(List<Room> rooms) {
+        return rooms.stream().map(RoomCatalog::detachedCopy).toList();
+    }
+
+    static int compareRoomNumbers(String number1, String number2) {
+        String digits1 = leadingNumber(number1);
+        String digits2 = leadingNumber(number2);
+        // 앞의 0을 뗀 숫자열은 자릿수가 많을수록 큰 수
+        int result = Integer.compare(digits1.length(), digits2.length());
+        if (result == 0) {
+            result = digits1.compareTo(digits2);
+        }
+        return result != 0 ? result : number1.compareTo(number2);
+    }
+
+    // 앞쪽 숫자 부분 (앞의 0 제외, 숫자로 시작하지 않으면 빈 문자열 = 0)
+    private static String leadingNumber(String roomNumber) {
+        int start = 0;
+        int end = 0;
+        while (end < roomNumber.length() && roomNumber.charAt(end) >= '0' && roomNumber.charAt(end) <= '9') {
+            if (start == end && roomNumber.charAt(end) == '0') {
+                start++;
+            }
+            end++;
+        }
+        return roomNumber.substring(start, end);
+    }
+
+    private static String typeKey(String type) {
+        return type == null ? "" : type.toUpperCase(Locale.ROOT);
+    }
+
+    private static Room detachedCopy(Room room) {
+        return new Room(room.getId(), room.getRoomNumber(), room.getRoomType(), room.getPrice(),
+                room.getStatus(), room.getCreatedAt(), room.getUpdatedAt());
+    }
+}
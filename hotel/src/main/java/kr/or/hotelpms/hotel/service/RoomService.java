@@ -1,22 +1,40 @@
 package kr.or.hotelpms.hotel.service;
 
+import jakarta.annotation.PostConstruct;
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.dto.ReservationDto;
+import kr.or.hotelpms.hotel.dto.RoomAvailabilityDto;
 import kr.or.hotelpms.hotel.model.Room;
 import kr.or.hotelpms.hotel.model.RoomStatus;
+import kr.or.hotelpms.hotel.repository.ReservationRepository;
 import kr.or.hotelpms.hotel.repository.RoomRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
 public class RoomService {
 
     private final RoomRepository roomRepository;
+    private final ReservationRepository reservationRepository;
+    private final CacheService cacheService;
+    private final PushService pushService;
+
+    // 빈 방 달력 한 번에 조회할 수 있는 최대 숙박일 수
+    private static final int MAX_CALENDAR_NIGHTS = 90;
+
+    // 객실 목록 스냅샷 (객실 변경 시 폐기)
+    private volatile RoomCatalog catalog;
+    private final AtomicLong catalogVersion = new AtomicLong();
 
     @Transactional
     public void createInitialRooms() {
@@ -78,42 +96,106 @@ public class RoomService {
             }
 
             roomRepository.saveAll(rooms);
+            invalidateCatalogAfterCommit();
         }
     }
 
+    // 객실 조회는 모두 메모리 스냅샷에서 처리 (변경 시에만 DB에서 다시 적재)
     public List<Room> getAllRooms() {
-        return roomRepository.findAll();
+        return catalog().all();
     }
 
     public Optional<Room> getRoomById(Long id) {
-        return roomRepository.findById(id);
+        return catalog().byId(id);
     }
 
     public List<Room> getRoomsByStatus(RoomStatus status) {
-        return roomRepository.findAll().stream()
-                .filter(room -> room.getStatus() == status)
-                .toList();
+        return catalog().byStatus(status);
     }
 
+    // 타입별 객실 (객실 번호 숫자 순)
     public List<Room> getRoomsByType(String type) {
-        return roomRepository.findAll().stream()
-                .filter(room -> room.getRoomType().equalsIgnoreCase(type))
-                .toList();
+        return catalog().byType(type);
     }
 
     public List<Room> getRoomsByPriceRange(BigDecimal min, BigDecimal max) {
-        return roomRepository.findAll().stream()
-                .filter(room -> room.getPrice().compareTo(min) >= 0 && room.getPrice().compareTo(max) <= 0)
-                .toList();
+        return catalog().byPriceRange(min, max);
+    }
+
+    // 스냅샷이 없으면 한 번만 적재 (적재 중 변경이 있었다면 그 결과는 캐시하지 않음)
+    private RoomCatalog catalog() {
+        RoomCatalog current = catalog;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (catalog != null) {
+                return catalog;
+            }
+            long version = catalogVersion.get();
+            RoomCatalog loaded = RoomCatalog.of(roomRepository.findAll());
+            if (catalogVersion.get() == version) {
+                catalog = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    // 객실 변경이 커밋된 뒤 스냅샷 폐기 - 다른 노드에도 전파되어 각자 다음 조회 시 새로 적재
+    private void invalidateCatalogAfterCommit() {
+        cacheService.clearAfterCommit(CacheConfig.ROOMS);
+    }
+
+    @PostConstruct
+    void registerCatalogInvalidation() {
+        cacheService.onInvalidate(CacheConfig.ROOMS, key -> {
+            catalogVersion.incrementAndGet();
+            catalog = null;
+        });
+    }
+
+    // 객실 타입의 기간 [from, to) 숙박일별 빈 방 수
+    // 기간과 겹치는 예약을 한 번 조회한 뒤 차분 배열로 한 번에 집계
+    @Transactional(readOnly = true)
+    public RoomAvailabilityDto.CalendarResponse getAvailabilityCalendar(String roomType, LocalDate from, LocalDate to) {
+        int nights = (int) ChronoUnit.DAYS.between(from, to);
+        if (nights <= 0 || nights > MAX_CALENDAR_NIGHTS) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상 " + MAX_CALENDAR_NIGHTS + "일 이하여야 합니다.");
+        }
+
+        long totalRooms = getRoomsByType(roomType).size();
+        List<ReservationDto.StayWindow> stays = reservationRepository.findStayWindowsByRoomType(roomType, from, to);
+
+        // diff[i]: i번째 숙박일부터 예약된 방 수의 변화량
+        int[] diff = new int[nights + 1];
+        for (ReservationDto.StayWindow stay : stays) {
+            int start = (int) Math.max(0, ChronoUnit.DAYS.between(from, stay.getCheckIn()));
+            int end = (int) Math.min(nights, ChronoUnit.DAYS.between(from, stay.getCheckOut()));
+            if (start < end) {
+                diff[start]++;
+                diff[end]--;
+            }
+        }
+
+        List<RoomAvailabilityDto.Night> calendar = new ArrayList<>(nights);
+        int booked = 0;
+        for (int i = 0; i < nights; i++) {
+            booked += diff[i];
+            calendar.add(new RoomAvailabilityDto.Night(from.plusDays(i), Math.max(0, totalRooms - booked)));
+        }
+        return new RoomAvailabilityDto.CalendarResponse(roomType, from, to, totalRooms, calendar);
     }
 
     @Transactional
     public Room createRoom(Room room) {
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        invalidateCatalogAfterCommit();
+        return saved;
     }
 
     @Transactional
     public Optional<Room> updateRoom(Long id, Room roomDetails) {
+        invalidateCatalogAfterCommit();
         return roomRepository.findById(id).map(room -> {
             if (roomDetails.getRoomNumber() != null)
                 room.setRoomNumber(roomDetails.getRoomNumber());
@@ -121,14 +203,17 @@ public class RoomService {
                 room.setRoomType(roomDetails.getRoomType());
             if (roomDetails.getPrice() != null)
                 room.setPrice(roomDetails.getPrice());
-            if (roomDetails.getStatus() != null)
+            if (roomDetails.getStatus() != null && roomDetails.getStatus() != room.getStatus()) {
                 room.setStatus(roomDetails.getStatus());
+                pushService.roomStatusChanged(room);
+            }
             return roomRepository.save(room);
         });
     }
 
     @Transactional
     public boolean deleteRoom(Long id) {
+        invalidateCatalogAfterCommit();
         return roomRepository.findById(id).map(room -> {
             roomRepository.delete(room);
             return true;
@@ -137,8 +222,10 @@ public class RoomService {
 
     @Transactional
     public Optional<Room> updateRoomStatus(Long roomId, RoomStatus status) {
+        invalidateCatalogAfterCommit();
         return roomRepository.findById(roomId).map(room -> {
             room.setStatus(status);
+            pushService.roomStatusChanged(room);
             return room;
         });
     }
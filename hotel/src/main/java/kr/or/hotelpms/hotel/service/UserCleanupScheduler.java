@@ -7,6 +7,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import kr.or.hotelpms.hotel.config.CacheConfig;
 import kr.or.hotelpms.hotel.model.User;
 import kr.or.hotelpms.hotel.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UserCleanupScheduler {
 
     private final UserRepository userRepository;
+    private final CacheService cacheService;
 
     /**
      * 매일 자정(00:00)에 실행되어 탈퇴 후 3일이 지난 사용자를 삭제합니다.
@@ -57,6 +59,7 @@ public class UserCleanupScheduler {
                     // 참고: 예약(reservations) 테이블에 ON DELETE CASCADE가 설정되어 있다면
                     // 관련 예약 데이터도 자동으로 삭제됩니다.
                     userRepository.delete(user);
+                    cacheService.evictAfterCommit(CacheConfig.USER_DETAILS, user.getUsername());
                     
                     log.info("사용자 삭제 완료: {}", user.getUsername());
                 } catch (Exception e) {
@@ -99,6 +102,7 @@ public class UserCleanupScheduler {
                     
                     // 2. 사용자 엔티티 삭제 (users 테이블에서 삭제)
                     userRepository.delete(user);
+                    cacheService.evictAfterCommit(CacheConfig.USER_DETAILS, user.getUsername());
                     
                     log.info("[테스트] 사용자 삭제 완료: {}", user.getUsername());
                 } catch (Exception e) {
@@ -4,15 +4,18 @@ import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import kr.or.hotelpms.hotel.config.CacheConfig;
 import kr.or.hotelpms.hotel.dto.ChangePasswordRequest;
 import kr.or.hotelpms.hotel.dto.UpdateProfileRequest;
 import kr.or.hotelpms.hotel.dto.UserDto;
 import kr.or.hotelpms.hotel.model.User;
 import kr.or.hotelpms.hotel.repository.UserRepository;
+import kr.or.hotelpms.hotel.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -21,7 +24,10 @@ import lombok.RequiredArgsConstructor;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final CacheService cacheService;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
 
     // 사용자 프로필 조회
     @Transactional(readOnly = true)
@@ -55,52 +61,64 @@ public class UserService {
         return convertToUserDto(updatedUser);
     }
 
-    // 비밀번호 변경
-    public void changePassword(String username, ChangePasswordRequest request) {
+    // 비밀번호 변경 - 모든 기기의 리프레시 토큰을 폐기하고 현재 세션용 토큰만 새로 발급해 반환
+    // 해시 검증/계산은 트랜잭션 밖에서 하고, 비밀번호 교체와 토큰 처리만 트랜잭션으로 묶음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String changePassword(String username, ChangePasswordRequest request) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
-            throw new RuntimeException("현재 비밀번호가 일치하지 않습니다.");
-        }
-
         // 새 비밀번호와 확인 비밀번호 일치 확인
         if (!request.getNewPassword().equals(request.getConfirmPassword())) {
             throw new RuntimeException("새 비밀번호와 확인 비밀번호가 일치하지 않습니다.");
         }
 
-        // 비밀번호 업데이트
-        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        // 현재 비밀번호 확인
+        if (!passwordHasher.matches(request.getCurrentPassword(), user.getPassword())) {
+            throw new RuntimeException("현재 비밀번호가 일치하지 않습니다.");
+        }
+        String newPassword = passwordHasher.encode(request.getNewPassword());
+
+        return transactionTemplate.execute(status -> {
+            // 검증한 뒤 다른 요청이 비밀번호를 바꿨으면 덮어쓰지 않음
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), newPassword) == 0) {
+                throw new RuntimeException("요청을 처리하는 중 비밀번호가 변경되었습니다. 다시 시도해주세요.");
+            }
+            cacheService.evictAfterCommit(CacheConfig.USER_DETAILS, user.getUsername());
+            refreshTokenService.revokeAll(user.getUsername());
+            return refreshTokenService.issue(user.getUsername());
+        });
     }
 
-    // 회원 탈퇴
+    // 회원 탈퇴 (비밀번호 검증은 트랜잭션 밖에서)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteAccount(String username, String password) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        // 비밀번호 확인
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new RuntimeException("비밀번호가 일치하지 않습니다.");
-        }
-
-        // 사용자 계정 비활성화 및 탈퇴일시 기록
-        user.setEnabled(false);
-        user.setDeletedAt(LocalDateTime.now());
-        userRepository.save(user);
+        verifyPassword(username, password);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+            // 사용자 계정 비활성화 및 탈퇴일시 기록
+            user.setEnabled(false);
+            user.setDeletedAt(LocalDateTime.now());
+            userRepository.save(user);
+            cacheService.evictAfterCommit(CacheConfig.USER_DETAILS, user.getUsername());
+            refreshTokenService.revokeAll(user.getUsername());
+        });
     }
 
-    // 회원 탈퇴 취소
+    // 회원 탈퇴 취소 (비밀번호 검증은 트랜잭션 밖에서)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cancelAccountDeletion(String username, String password) {
+        verifyPassword(username, password);
+        transactionTemplate.executeWithoutResult(status -> restoreAccount(username));
+    }
+
+    private void restoreAccount(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        // 비밀번호 확인
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new RuntimeException("비밀번호가 일치하지 않습니다.");
-        }
-
         // 탈퇴 상태가 아닌 경우
         if (user.getEnabled()) {
             throw new RuntimeException("탈퇴 상태가 아닙니다.");
@@ -121,6 +139,17 @@ public class UserService {
         user.setEnabled(true);
         user.setDeletedAt(null);
         userRepository.save(user);
+        cacheService.evictAfterCommit(CacheConfig.USER_DETAILS, user.getUsername());
+    }
+
+    private void verifyPassword(String username, String password) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        // 비밀번호 확인
+        if (!passwordHasher.matches(password, user.getPassword())) {
+            throw new RuntimeException("비밀번호가 일치하지 않습니다.");
+        }
     }
 
     // ✅ 아이디 찾기 (이메일 + 이름으로 username 조회)
@@ -2,23 +2,57 @@ package kr.or.hotelpms.hotel.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import kr.or.hotelpms.hotel.security.JwtProvider;
+import kr.or.hotelpms.hotel.security.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtProvider jwtProvider;
+
     @Value("${jwt.secret:mySecretKey123456789012345678901234567890}")
     private String secret;
 
     @Value("${jwt.expiration:86400000}") // 24시간
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // 서명 키와 파서는 시작 시 한 번만 생성 (둘 다 thread-safe)
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // kid가 있으면 비대칭 키 링에서 검증 키를 찾음
+    // kid가 없으면 HS512 비밀키로 검증하되, 비대칭 키 사용 중에는 기존 토큰 허용 설정(jwt.signing.accept-legacy-hs512)이 켜져 있을 때만
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        String kid = header.getKeyId();
+                        if (kid != null) {
+                            return jwtProvider.publicKey(kid);
+                        }
+                        if (jwtProvider.isEnabled() && !jwtProvider.acceptsLegacyHs512()) {
+                            throw new JwtException("kid가 없는 토큰은 허용되지 않습니다.");
+                        }
+                        return signingKey;
+                    }
+                })
+                .build();
+        // 키 링이 바뀌면 이전 키로 검증해 둔 클레임을 버림
+        jwtProvider.onKeyRingChange(verifiedTokenCache::clear);
     }
 
     // JWT 토큰 생성
@@ -26,13 +60,32 @@ public class JwtUtil {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(username)
                 .claim("role", role)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
-                .compact();
+                .setExpiration(expiryDate);
+
+        if (jwtProvider.isEnabled()) {
+            return jwtProvider.sign(builder).compact();
+        }
+        return builder.signWith(signingKey, SignatureAlgorithm.HS512).compact();
+    }
+
+    // 토큰을 한 번만 파싱해 서명/만료까지 검증된 클레임 반환 (유효하지 않으면 empty)
+    // 같은 토큰이 반복해서 오면 검증 결과 캐시에서 바로 반환
+    public Optional<Claims> parseVerifiedClaims(String token) {
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            Claims claims = getClaimsFromToken(token);
+            verifiedTokenCache.put(token, claims);
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     // 토큰에서 사용자명 추출
@@ -55,11 +108,7 @@ public class JwtUtil {
 
     // 토큰에서 클레임 추출
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     // 토큰 만료 여부 확인
@@ -0,0 +1,119 @@
+package kr.or.hotelpms.hotel.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.or.hotelpms.hotel.model.Room;
+import kr.or.hotelpms.hotel.repository.ReservationRepository;
+import kr.or.hotelpms.hotel.repository.RoomRepository;
+import kr.or.hotelpms.hotel.repository.UserRepository;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.support.RoomFixtures;
+
+/**
+ * "타입별 첫 빈 방" 조회 비교: 기존 객실별 조회 루프 vs anti-join 쿼리 한 번.
+ * 마지막 객실만 비어 있는 최악의 경우(성수기)를 55개/5,000개 객실로 측정한다.
+ * ./gradlew benchmarkTest 로 실행 (기본 test 작업에서는 제외).
+ */
+@Tag("benchmark")
+class RoomAvailabilityBenchmarkTest extends IntegrationTestSupport {
+
+    private static final String ROOM_TYPE = "BENCHROOM";
+    private static final LocalDate CHECK_IN = LocalDate.of(2031, 7, 1);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2031, 7, 3);
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        RoomFixtures.deleteRooms(jdbcTemplate, ROOM_TYPE);
+    }
+
+    @ParameterizedTest(name = "{0} rooms")
+    @ValueSource(ints = {55, 5000})
+    void compareFirstFreeRoomLookup(int roomCount) {
+        RoomFixtures.insertRooms(jdbcTemplate, ROOM_TYPE, 800001, roomCount);
+        Long adminId = userRepository.findByUsername("admin").orElseThrow().getId();
+        RoomFixtures.bookFirstRooms(jdbcTemplate, ROOM_TYPE, roomCount - 1, adminId, CHECK_IN, CHECK_OUT);
+        jdbcTemplate.execute("ANALYZE TABLE rooms, reservations");
+
+        Result legacy = measure(this::legacyFirstFreeRoom);
+        Result antiJoin = measure(() -> roomRepository.findFirstAvailableByType(ROOM_TYPE, CHECK_IN, CHECK_OUT));
+
+        String expected = String.valueOf(800000 + roomCount);
+        assertThat(legacy.room()).isEqualTo(expected);
+        assertThat(antiJoin.room()).isEqualTo(expected);
+        assertThat(antiJoin.statements()).isEqualTo(1);
+        assertThat(legacy.statements()).isEqualTo(roomCount + 1L);
+
+        System.out.printf("[%d rooms] legacy loop: %d statements, median %.2f ms | anti-join: %d statement, median %.2f ms%n",
+                roomCount, legacy.statements(), legacy.medianMillis(), antiJoin.statements(), antiJoin.medianMillis());
+    }
+
+    // 변경 전 ReservationService.findAvailableRoomByType 경로: 타입별 객실 조회 후 번호 순으로 객실마다 겹침 조회
+    private Optional<Room> legacyFirstFreeRoom() {
+        List<Room> rooms = roomRepository.findByRoomTypeIgnoreCase(ROOM_TYPE).stream()
+                .sorted(Comparator.comparingInt(room -> Integer.parseInt(room.getRoomNumber())))
+                .toList();
+        for (Room room : rooms) {
+            if (reservationRepository.findByRoomIdAndCheckOutAfterAndCheckInBefore(room.getId(), CHECK_IN, CHECK_OUT)
+                    .isEmpty()) {
+                return Optional.of(room);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Result measure(Supplier<Optional<Room>> lookup) {
+        for (int i = 0; i < WARMUP; i++) {
+            lookup.get();
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long[] nanos = new long[ITERATIONS];
+        long statements = 0;
+        String room = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            statistics.clear();
+            long start = System.nanoTime();
+            room = lookup.get().map(Room::getRoomNumber).orElse(null);
+            nanos[i] = System.nanoTime() - start;
+            statements = statistics.getPrepareStatementCount();
+        }
+        Arrays.sort(nanos);
+        return new Result(room, statements, nanos[ITERATIONS / 2] / 1_000_000.0);
+    }
+
+    private record Result(String room, long statements, double medianMillis) {
+    }
+}
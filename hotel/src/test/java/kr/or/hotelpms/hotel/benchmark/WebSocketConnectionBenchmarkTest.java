@@ -0,0 +1,135 @@
+package kr.or.hotelpms.hotel.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import kr.or.hotelpms.hotel.dto.NotificationDto;
+import kr.or.hotelpms.hotel.model.Notification;
+import kr.or.hotelpms.hotel.security.WebSocketSessionRegistry;
+import kr.or.hotelpms.hotel.service.PushService;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.util.JwtUtil;
+
+/**
+ * STOMP 연결 5,000개를 열어 두고 접속 시간, 서버 스레드/힙 증가량, 한 사용자 전체 세션으로의 푸시 전달 시간을 측정한다.
+ * 클라이언트와 서버가 같은 JVM이라 파일 디스크립터가 연결당 2개 필요하다 (ulimit -n 이 12000 이상인지 확인).
+ * ./gradlew benchmarkTest 로 실행 (기본 test 작업에서는 제외).
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class WebSocketConnectionBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int CONNECTIONS = 5000;
+    // 동시에 진행하는 핸드셰이크 수 (한꺼번에 열면 accept 대기열이 넘침)
+    private static final int CONNECT_CONCURRENCY = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PushService pushService;
+
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Test
+    void holdFiveThousandConnectionsAndFanOut() throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + jwtUtil.generateToken("admin", "ADMIN"));
+
+        CountDownLatch delivered = new CountDownLatch(CONNECTIONS);
+        List<StompSession> sessions = new ArrayList<>(CONNECTIONS);
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        long heapBefore = usedHeap();
+
+        try {
+            long connectStart = System.nanoTime();
+            for (int from = 0; from < CONNECTIONS; from += CONNECT_CONCURRENCY) {
+                List<CompletableFuture<StompSession>> batch = new ArrayList<>(CONNECT_CONCURRENCY);
+                for (int i = from; i < Math.min(from + CONNECT_CONCURRENCY, CONNECTIONS); i++) {
+                    batch.add(stompClient.connectAsync("ws://localhost:" + port + "/ws", null, connectHeaders,
+                            new StompSessionHandlerAdapter() {
+                            }));
+                }
+                for (CompletableFuture<StompSession> future : batch) {
+                    StompSession session = future.get(30, TimeUnit.SECONDS);
+                    session.subscribe("/user/queue/notifications", new CountingHandler(delivered));
+                    sessions.add(session);
+                }
+            }
+            double connectMillis = (System.nanoTime() - connectStart) / 1_000_000.0;
+
+            assertThat(sessions).hasSize(CONNECTIONS);
+            assertThat(sessionRegistry.size()).isGreaterThanOrEqualTo(CONNECTIONS);
+            int threadsAfter = ManagementFactory.getThreadMXBean().getThreadCount();
+            long heapAfter = usedHeap();
+
+            // 구독 프레임이 브로커에 등록될 때까지 잠시 대기 후 한 사용자의 모든 세션으로 푸시
+            Thread.sleep(1000);
+            Notification notification = new Notification();
+            notification.setUsername("admin");
+            notification.setType("BENCHMARK");
+            notification.setTitle("benchmark");
+            long pushStart = System.nanoTime();
+            pushService.notification("admin", new NotificationDto.NotificationResponse(notification));
+            boolean allDelivered = delivered.await(30, TimeUnit.SECONDS);
+            double pushMillis = (System.nanoTime() - pushStart) / 1_000_000.0;
+
+            assertThat(allDelivered).as("미전달 %d건", delivered.getCount()).isTrue();
+            System.out.printf("[%d connections] connect %.0f ms | threads +%d (client+server) | heap +%.1f MB | fan-out %.0f ms%n",
+                    CONNECTIONS, connectMillis, threadsAfter - threadsBefore,
+                    (heapAfter - heapBefore) / (1024.0 * 1024.0), pushMillis);
+        } finally {
+            sessions.forEach(StompSession::disconnect);
+            stompClient.stop();
+        }
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class CountingHandler extends StompSessionHandlerAdapter {
+        private final CountDownLatch delivered;
+
+        private CountingHandler(CountDownLatch delivered) {
+            this.delivered = delivered;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return String.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            delivered.countDown();
+        }
+    }
+}
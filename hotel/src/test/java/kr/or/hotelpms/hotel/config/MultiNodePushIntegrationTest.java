@@ -0,0 +1,147 @@
+package kr.or.hotelpms.hotel.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import kr.or.hotelpms.hotel.HotelReservationApplication;
+import kr.or.hotelpms.hotel.dto.NotificationDto;
+import kr.or.hotelpms.hotel.model.Notification;
+import kr.or.hotelpms.hotel.model.Room;
+import kr.or.hotelpms.hotel.model.RoomStatus;
+import kr.or.hotelpms.hotel.service.PushService;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.util.JwtUtil;
+
+// 두 노드: 노드 A(테스트 컨텍스트)에서 보낸 푸시가 노드 B에 연결된 클라이언트에게 도착하는지 확인
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = "hotel.cache.redis.enabled=true")
+class MultiNodePushIntegrationTest extends IntegrationTestSupport {
+
+    @ServiceConnection(name = "redis")
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7.4-alpine"))
+            .withExposedPorts(6379);
+
+    static {
+        REDIS.start();
+    }
+
+    private static ConfigurableApplicationContext nodeB;
+
+    @Autowired
+    private PushService pushService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @BeforeAll
+    static void startNodeB() {
+        nodeB = new SpringApplicationBuilder(HotelReservationApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + MARIADB.getJdbcUrl(),
+                        "spring.datasource.username=" + MARIADB.getUsername(),
+                        "spring.datasource.password=" + MARIADB.getPassword(),
+                        "spring.data.redis.host=" + REDIS.getHost(),
+                        "spring.data.redis.port=" + REDIS.getMappedPort(6379),
+                        "hotel.cache.redis.enabled=true")
+                .run();
+    }
+
+    @AfterAll
+    static void stopNodeB() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    void pushesReachClientsConnectedToAnotherNode() throws Exception {
+        int nodeBPort = ((WebServerApplicationContext) nodeB).getWebServer().getPort();
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + jwtUtil.generateToken("admin", "ADMIN"));
+
+        BlockingQueue<String> notifications = new LinkedBlockingQueue<>();
+        BlockingQueue<String> roomEvents = new LinkedBlockingQueue<>();
+        StompSession session = stompClient.connectAsync("ws://localhost:" + nodeBPort + "/ws", null, connectHeaders,
+                new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+        try {
+            session.subscribe("/user/queue/notifications", new CollectingHandler(notifications));
+            session.subscribe(WebSocketConfig.ROOM_STATUS_TOPIC, new CollectingHandler(roomEvents));
+
+            Notification notification = new Notification();
+            notification.setId(987654L);
+            notification.setUsername("admin");
+            notification.setType("TEST");
+            notification.setTitle("다른 노드 알림");
+            Room room = new Room();
+            room.setId(123456L);
+            room.setRoomNumber("9901");
+            room.setStatus(RoomStatus.MAINTENANCE);
+
+            // 구독 등록은 비동기라 도착할 때까지 몇 번 다시 보냄
+            String receivedNotification = null;
+            String receivedRoomEvent = null;
+            for (int attempt = 0; attempt < 20 && (receivedNotification == null || receivedRoomEvent == null); attempt++) {
+                if (receivedNotification == null) {
+                    pushService.notification("admin", new NotificationDto.NotificationResponse(notification));
+                    receivedNotification = notifications.poll(250, TimeUnit.MILLISECONDS);
+                }
+                if (receivedRoomEvent == null) {
+                    pushService.roomStatusChanged(room);
+                    receivedRoomEvent = roomEvents.poll(250, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            assertThat(receivedNotification).contains("987654").contains("다른 노드 알림");
+            assertThat(receivedRoomEvent).contains("9901").contains("MAINTENANCE");
+        } finally {
+            session.disconnect();
+            stompClient.stop();
+        }
+    }
+
+    private static class CollectingHandler extends StompSessionHandlerAdapter {
+        private final BlockingQueue<String> received;
+
+        private CollectingHandler(BlockingQueue<String> received) {
+            this.received = received;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return String.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            received.add((String) payload);
+        }
+    }
+}
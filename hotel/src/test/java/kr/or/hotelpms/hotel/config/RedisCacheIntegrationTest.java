@@ -0,0 +1,83 @@
+package kr.or.hotelpms.hotel.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import kr.or.hotelpms.hotel.security.CustomUserDetailsService;
+import kr.or.hotelpms.hotel.service.CacheService;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+
+// Redis 공유 캐시 모드: 비밀번호 없는 사용자 캐시, 노드 간 무효화 전파 확인
+@TestPropertySource(properties = "hotel.cache.redis.enabled=true")
+class RedisCacheIntegrationTest extends IntegrationTestSupport {
+
+    @ServiceConnection(name = "redis")
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7.4-alpine"))
+            .withExposedPorts(6379);
+
+    static {
+        REDIS.start();
+    }
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void sharedUserDetailsCacheHoldsNoPasswordHash() {
+        Cache cache = cacheManager.getCache(CacheConfig.USER_DETAILS);
+        cache.evict("admin");
+
+        UserDetails loaded = userDetailsService.loadUserForRequest("admin");
+
+        UserDetails cached = cache.get("admin", UserDetails.class);
+        assertThat(cached).isNotNull();
+        assertThat(cached.getPassword()).isEmpty();
+        assertThat(cached.getAuthorities()).isEqualTo(loaded.getAuthorities());
+        // 로그인용 조회는 캐시를 거치지 않고 해시를 그대로 받는다
+        assertThat(userDetailsService.loadUserByUsername("admin").getPassword()).isNotEmpty();
+    }
+
+    @Test
+    void invalidationFromAnotherNodeReachesLocalListeners() throws InterruptedException {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        cacheService.onInvalidate(CacheConfig.ROOMS, received::add);
+
+        redisTemplate.convertAndSend(CacheConfig.INVALIDATION_CHANNEL, "other-node|" + CacheConfig.ROOMS + "|42");
+
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isEqualTo("42");
+    }
+
+    @Test
+    void reviewPageEntriesLiveInRedisUntilInvalidated() {
+        Cache cache = cacheManager.getCache(CacheConfig.REVIEW_PAGES);
+        cache.put("0:10:createdAt,DESC", "page");
+        assertThat(redisTemplate.hasKey("hotel:" + CacheConfig.REVIEW_PAGES + "::0:10:createdAt,DESC")).isTrue();
+
+        cache.evict("0:10:createdAt,DESC");
+
+        assertThat(cache.get("0:10:createdAt,DESC")).isNull();
+    }
+}
@@ -0,0 +1,171 @@
+package kr.or.hotelpms.hotel.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import kr.or.hotelpms.hotel.security.StompAuthChannelInterceptor;
+import kr.or.hotelpms.hotel.security.WebSocketSessionRegistry;
+import kr.or.hotelpms.hotel.service.CacheService;
+import kr.or.hotelpms.hotel.service.RefreshTokenService;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.util.JwtUtil;
+
+/**
+ * STOMP CONNECT 헤더 인증, 연결 중 토큰 갱신, 토큰 만료/로그인 폐기 시 연결 종료 확인.
+ * 만료를 기다릴 수 있게 이 테스트의 액세스 토큰은 4초짜리로 발급한다 (exp는 초 단위라 실제로는 3~4초).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = "jwt.expiration=4000")
+class WebSocketAuthIntegrationTest extends IntegrationTestSupport {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
+
+    private WebSocketStompClient stompClient;
+
+    @BeforeEach
+    void setUp() {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stompClient.stop();
+    }
+
+    @Test
+    void connectWithoutTokenIsRejected() throws Exception {
+        RecordingHandler handler = new RecordingHandler();
+        stompClient.connectAsync(url(), null, new StompHeaders(), handler);
+
+        assertThat(handler.error.get(10, TimeUnit.SECONDS)).contains("유효한 토큰이 필요합니다");
+        assertThat(handler.connected).isNotDone();
+    }
+
+    @Test
+    void sessionIsClosedWhenTokenExpires() throws Exception {
+        RecordingHandler handler = new RecordingHandler();
+        StompSession session = connect(jwtUtil.generateToken("admin", "ADMIN"), handler);
+        session.subscribe("/user/queue/notifications", handler);
+        assertThat(session.isConnected()).isTrue();
+
+        // 4초 만료 + 여유
+        assertThat(handler.closed.get(10, TimeUnit.SECONDS)).isNotNull();
+        assertThat(session.isConnected()).isFalse();
+    }
+
+    @Test
+    void refreshedTokenKeepsSessionOpenPastOriginalExpiry() throws Exception {
+        RecordingHandler handler = new RecordingHandler();
+        long connectedAt = System.nanoTime();
+        StompSession session = connect(jwtUtil.generateToken("admin", "ADMIN"), handler);
+
+        Thread.sleep(2000);
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(StompAuthChannelInterceptor.TOKEN_DESTINATION);
+        headers.add("Authorization", "Bearer " + jwtUtil.generateToken("admin", "ADMIN"));
+        session.send(headers, "");
+
+        // 처음 토큰의 만료(최대 4초)는 지났지만 갱신한 토큰(5초 이후 만료)으로 연결 유지
+        Thread.sleep(Math.max(0, 4500 - (System.nanoTime() - connectedAt) / 1_000_000));
+        assertThat(handler.closed).isNotDone();
+        assertThat(session.isConnected()).isTrue();
+
+        // 다시 갱신하지 않으면 새 만료 시각에 닫힘
+        assertThat(handler.closed.get(10, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void sessionIsClosedWhenLoginIsRevoked() throws Exception {
+        RecordingHandler handler = new RecordingHandler();
+        StompSession session = connect(jwtUtil.generateToken("admin", "ADMIN"), handler);
+        assertThat(session.isConnected()).isTrue();
+
+        // 비밀번호 변경/재발급, 탈퇴 시와 같은 전체 폐기
+        refreshTokenService.revokeAll("admin");
+
+        assertThat(handler.closed.get(2, TimeUnit.SECONDS)).isNotNull();
+        assertThat(sessionRegistry.isExpired(session.getSessionId())).isTrue();
+    }
+
+    @Test
+    void userDetailsEvictionAloneKeepsSessionOpen() throws Exception {
+        RecordingHandler handler = new RecordingHandler();
+        StompSession session = connect(jwtUtil.generateToken("admin", "ADMIN"), handler);
+
+        // 로그인 시 재해시, 프로필 변경 등 단순 캐시 무효화는 연결을 끊지 않음
+        cacheService.evictAfterCommit(CacheConfig.USER_DETAILS, "admin");
+
+        Thread.sleep(500);
+        assertThat(handler.closed).isNotDone();
+        assertThat(session.isConnected()).isTrue();
+        session.disconnect();
+    }
+
+    private StompSession connect(String token, RecordingHandler handler) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+        return stompClient.connectAsync(url(), null, connectHeaders, handler).get(5, TimeUnit.SECONDS);
+    }
+
+    private String url() {
+        return "ws://localhost:" + port + "/ws";
+    }
+
+    private static class RecordingHandler extends StompSessionHandlerAdapter {
+        private final CompletableFuture<StompSession> connected = new CompletableFuture<>();
+        private final CompletableFuture<String> error = new CompletableFuture<>();
+        private final CompletableFuture<Throwable> closed = new CompletableFuture<>();
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            connected.complete(session);
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return String.class;
+        }
+
+        // 서버의 ERROR 프레임
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            error.complete(String.valueOf(headers.getFirst("message")));
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            closed.complete(exception);
+        }
+    }
+}
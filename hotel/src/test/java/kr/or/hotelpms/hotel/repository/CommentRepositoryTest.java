@@ -0,0 +1,138 @@
+package kr.or.hotelpms.hotel.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import kr.or.hotelpms.hotel.dto.CommentDto;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+
+// 댓글 트리 CTE: anchor 키셋 페이지, 깊이 제한, 다음 페이지 확인용 anchor는 답글 없이 한 행만
+class CommentRepositoryTest extends IntegrationTestSupport {
+
+    private static final String OWNER = "comment-tree-owner";
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long reviewId;
+    // root1 ─ reply1 ─ reply2 ─ reply3
+    //        └ reply2b
+    // root2
+    // root3 ─ reply4
+    private Long root1;
+    private Long root2;
+    private Long root3;
+    private Long reply1;
+    private Long reply2;
+    private Long reply2b;
+    private Long reply4;
+
+    @BeforeEach
+    void setUp() {
+        reviewId = insertReview();
+        root1 = insertComment(null);
+        root2 = insertComment(null);
+        root3 = insertComment(null);
+        reply1 = insertComment(root1);
+        reply2 = insertComment(reply1);
+        reply2b = insertComment(reply1);
+        insertComment(reply2);
+        reply4 = insertComment(root3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("UPDATE comments SET parent_id = NULL WHERE review_id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM comments WHERE review_id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM reviews WHERE id = ?", reviewId);
+    }
+
+    @Test
+    void firstPageStopsAtMaxDepthAndSkipsLookAheadSubtree() {
+        // 페이지 크기 2 + 다음 페이지 확인용 1
+        List<CommentDto.CommentRow> rows = commentRepository.findTreeByReviewId(reviewId, null, 3, 1);
+
+        assertThat(rows).extracting(CommentDto.CommentRow::getId)
+                .containsExactly(root1, root2, root3, reply1);
+        assertThat(rows).allSatisfy(row -> assertThat(row.getDepth()).isLessThanOrEqualTo(1));
+        // root3(look-ahead)의 답글 reply4는 조회하지 않음
+        assertThat(rows).extracting(CommentDto.CommentRow::getId).doesNotContain(reply4);
+    }
+
+    @Test
+    void nodeAtMaxDepthReportsMoreReplies() {
+        List<CommentDto.CommentRow> rows = commentRepository.findTreeByReviewId(reviewId, null, 3, 1);
+
+        CommentDto.CommentRow replyRow = rows.stream().filter(row -> row.getId().equals(reply1)).findFirst().orElseThrow();
+        CommentDto.CommentNode replyNode = new CommentDto.CommentNode(replyRow, 1);
+        assertThat(replyNode.getReplyCount()).isEqualTo(2);
+        assertThat(replyNode.isHasMoreReplies()).isTrue();
+
+        CommentDto.CommentRow rootRow = rows.stream().filter(row -> row.getId().equals(root1)).findFirst().orElseThrow();
+        assertThat(new CommentDto.CommentNode(rootRow, 1).isHasMoreReplies()).isFalse();
+        CommentDto.CommentRow emptyRow = rows.stream().filter(row -> row.getId().equals(root2)).findFirst().orElseThrow();
+        assertThat(new CommentDto.CommentNode(emptyRow, 1).isHasMoreReplies()).isFalse();
+    }
+
+    @Test
+    void cursorContinuesAfterLastRoot() {
+        List<CommentDto.CommentRow> rows = commentRepository.findTreeByReviewId(reviewId, root2, 3, 1);
+
+        assertThat(rows).extracting(CommentDto.CommentRow::getId).containsExactly(root3, reply4);
+    }
+
+    @Test
+    void repliesArePagedByCursor() {
+        // 답글 페이지 크기 1 + 확인용 1, 깊이 0: reply2b는 확인용이라 답글 없이 한 행만
+        List<CommentDto.CommentRow> first = commentRepository.findTreeByParentId(reply1, null, 2, 0);
+        assertThat(first).extracting(CommentDto.CommentRow::getId).containsExactly(reply2, reply2b);
+        assertThat(new CommentDto.CommentNode(first.get(0), 0).isHasMoreReplies()).isTrue();
+
+        List<CommentDto.CommentRow> second = commentRepository.findTreeByParentId(reply1, reply2, 2, 0);
+        assertThat(second).extracting(CommentDto.CommentRow::getId).containsExactly(reply2b);
+        assertThat(new CommentDto.CommentNode(second.get(0), 0).isHasMoreReplies()).isFalse();
+    }
+
+    private Long insertReview() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO reviews (username, content, rating, like_count, comment_count, created_at) " +
+                    "VALUES (?, '댓글 트리 테스트', 4, 0, 0, ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, OWNER);
+            ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private Long insertComment(Long parentId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO comments (content, username, created_at, review_id, parent_id) VALUES ('댓글', ?, NOW(), ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, OWNER);
+            ps.setLong(2, reviewId);
+            ps.setObject(3, parentId);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
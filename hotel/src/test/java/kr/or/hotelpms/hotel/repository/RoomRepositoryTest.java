@@ -0,0 +1,74 @@
+package kr.or.hotelpms.hotel.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import kr.or.hotelpms.hotel.model.Room;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.support.RoomFixtures;
+
+class RoomRepositoryTest extends IntegrationTestSupport {
+
+    private static final String ROOM_TYPE = "PLANTEST";
+    private static final LocalDate CHECK_IN = LocalDate.of(2030, 3, 1);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2030, 3, 4);
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RoomFixtures.insertRooms(jdbcTemplate, ROOM_TYPE, 700001, 200);
+        Long adminId = userRepository.findByUsername("admin").orElseThrow().getId();
+        RoomFixtures.bookFirstRooms(jdbcTemplate, ROOM_TYPE, 150, adminId, CHECK_IN, CHECK_OUT);
+        jdbcTemplate.execute("ANALYZE TABLE rooms, reservations");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RoomFixtures.deleteRooms(jdbcTemplate, ROOM_TYPE);
+    }
+
+    @Test
+    void findFirstAvailableByTypeReturnsLowestNumberedFreeRoom() {
+        Room room = roomRepository.findFirstAvailableByType(ROOM_TYPE, CHECK_IN, CHECK_OUT).orElseThrow();
+        assertThat(room.getRoomNumber()).isEqualTo("700151");
+
+        // 기간이 겹치지 않으면 첫 객실
+        Room free = roomRepository.findFirstAvailableByType(ROOM_TYPE, CHECK_OUT, CHECK_OUT.plusDays(1)).orElseThrow();
+        assertThat(free.getRoomNumber()).isEqualTo("700001");
+    }
+
+    @Test
+    void overlapCheckUsesRoomDatesIndex() {
+        // findAvailableByType와 같은 anti-join의 실행 계획
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT r.* FROM rooms r " +
+                "WHERE UPPER(r.room_type) = UPPER(?) " +
+                "AND NOT EXISTS (SELECT 1 FROM reservations res WHERE res.room_id = r.id " +
+                "AND res.check_out > ? AND res.check_in < ?) " +
+                "ORDER BY CAST(r.room_number AS UNSIGNED), r.room_number LIMIT 1",
+                ROOM_TYPE, CHECK_IN, CHECK_OUT);
+
+        Map<String, Object> reservationsStep = plan.stream()
+                .filter(row -> "res".equals(row.get("table")))
+                .findFirst()
+                .orElseThrow();
+        assertThat(reservationsStep.get("key")).isEqualTo("idx_reservations_room_dates");
+    }
+}
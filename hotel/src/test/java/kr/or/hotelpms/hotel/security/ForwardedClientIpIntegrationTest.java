@@ -0,0 +1,47 @@
+package kr.or.hotelpms.hotel.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+
+// 프록시(루프백) 뒤의 요청은 X-Forwarded-For의 클라이언트 IP별로 제한 - 모든 클라이언트가 프록시 IP 하나를 공유하지 않음
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ForwardedClientIpIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void rateLimitIsScopedToForwardedClientIp() {
+        // FIND_PASSWORD_IP 한도 5회
+        for (int i = 0; i < 5; i++) {
+            assertThat(findPassword("203.0.113.10").getStatusCode()).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        assertThat(findPassword("203.0.113.10").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        // 같은 프록시를 거친 다른 클라이언트는 영향 없음
+        assertThat(findPassword("203.0.113.11").getStatusCode()).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        // 프록시 체인이면 맨 오른쪽의 신뢰하지 않는 주소가 클라이언트
+        assertThat(findPassword("198.51.100.7, 203.0.113.10").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private ResponseEntity<String> findPassword(String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.postForEntity("/api/auth/find-password",
+                new HttpEntity<>(Map.of("email", "nobody@test.local"), headers), String.class);
+    }
+}
@@ -0,0 +1,84 @@
+package kr.or.hotelpms.hotel.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.or.hotelpms.hotel.config.JwtConfig;
+import kr.or.hotelpms.hotel.util.JwtUtil;
+
+// 요청 하나에서 토큰은 한 번만 파싱 (이전에는 파싱 가능 여부/사용자명/검증/만료로 네 번 이상)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890123456789012345678901234567890";
+
+    private final JwtUtil jwtUtil = spy(jwtUtil());
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void parsesTokenOnceWhenLoadingUser() throws Exception {
+        String token = jwtUtil.generateToken("alice", "USER");
+        when(userDetailsService.loadUserForRequest("alice"))
+                .thenReturn(JwtAuthenticationFilter.userFromClaims("alice", "USER"));
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(jwtUtil).generateToken("alice", "USER");
+        verify(jwtUtil, times(1)).parseVerifiedClaims(token);
+        verifyNoMoreInteractions(jwtUtil);
+        verify(userDetailsService, times(1)).loadUserForRequest("alice");
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("alice");
+    }
+
+    @Test
+    void parsesTokenOnceWithClaimsOnlyAuth() throws Exception {
+        ReflectionTestUtils.setField(filter, "claimsOnlyAuth", true);
+        String token = jwtUtil.generateToken("admin", "ADMIN");
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(jwtUtil).generateToken("admin", "ADMIN");
+        verify(jwtUtil, times(1)).parseVerifiedClaims(token);
+        verifyNoMoreInteractions(jwtUtil);
+        verifyNoInteractions(userDetailsService);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(Object::toString)
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reservations/my");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static JwtUtil jwtUtil() {
+        JwtProvider provider = new JwtProvider(new JwtConfig());
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        JwtUtil jwtUtil = new JwtUtil(new VerifiedTokenCache(100, new SimpleMeterRegistry()), provider);
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 60_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,132 @@
+package kr.or.hotelpms.hotel.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import kr.or.hotelpms.hotel.config.JwtConfig;
+
+// 임시 키/검증 전용/키 디렉터리 재적재
+class JwtProviderTest {
+
+    @TempDir
+    Path keyDir;
+
+    @Test
+    void generatesEphemeralKeyOnlyWhenNoKeysAreConfiguredAndNeverReloadsIt() {
+        JwtProvider provider = provider(es256Config());
+        String kid = onlyKid(provider);
+        assertThat(kid).startsWith("ephemeral-");
+
+        // 다시 만들면 발급한 토큰이 모두 무효가 되므로 재적재하지 않음
+        assertThat(provider.reload()).isFalse();
+        assertThat(onlyKid(provider)).isEqualTo(kid);
+    }
+
+    @Test
+    void publicKeysWithoutPrivateKeyMakeVerifyOnlyNode() throws Exception {
+        KeyPair pair = generateKeyPair();
+        JwtConfig config = es256Config();
+        JwtConfig.Key key = new JwtConfig.Key();
+        key.setKid("issuer-1");
+        key.setPublicKey(pem(pair.getPublic().getEncoded()));
+        config.getKeys().add(key);
+
+        JwtProvider provider = provider(config);
+
+        assertThat(onlyKid(provider)).isEqualTo("issuer-1");
+        assertThat(provider.publicKey("issuer-1")).isEqualTo(pair.getPublic());
+        assertThatThrownBy(() -> provider.sign(Jwts.builder().setSubject("user")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void reloadRereadsKeyDirectory() throws Exception {
+        writeKeyPair("k1", generateKeyPair());
+        JwtConfig config = es256Config();
+        config.setKeyDir(keyDir.toString());
+        JwtProvider provider = provider(config);
+        AtomicInteger notified = new AtomicInteger();
+        provider.onKeyRingChange(notified::incrementAndGet);
+        assertThat(signedKid(provider, "k1").getBody().getSubject()).isEqualTo("user");
+
+        // 새 키 추가 후 서명 키 전환 - 이전 키로 서명한 토큰은 계속 검증
+        writeKeyPair("k2", generateKeyPair());
+        Files.writeString(keyDir.resolve("active-kid"), "k2\n");
+        assertThat(provider.reload()).isTrue();
+
+        assertThat(notified).hasValue(1);
+        assertThat(signedKid(provider, "k2").getHeader().getKeyId()).isEqualTo("k2");
+        assertThat(provider.publicKey("k1")).isNotNull();
+    }
+
+    @Test
+    void reloadWithoutKeyDirectoryKeepsConfiguredKeys() throws Exception {
+        KeyPair pair = generateKeyPair();
+        JwtConfig config = es256Config();
+        JwtConfig.Key key = new JwtConfig.Key();
+        key.setKid("static");
+        key.setPublicKey(pem(pair.getPublic().getEncoded()));
+        key.setPrivateKey(pem(pair.getPrivate().getEncoded()));
+        config.getKeys().add(key);
+        JwtProvider provider = provider(config);
+
+        assertThat(provider.reload()).isFalse();
+        assertThat(onlyKid(provider)).isEqualTo("static");
+    }
+
+    private static JwtConfig es256Config() {
+        JwtConfig config = new JwtConfig();
+        config.setAlgorithm("ES256");
+        return config;
+    }
+
+    private static JwtProvider provider(JwtConfig config) {
+        JwtProvider provider = new JwtProvider(config);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String onlyKid(JwtProvider provider) {
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) provider.jwks().get("keys");
+        assertThat(keys).hasSize(1);
+        return (String) keys.get(0).get("kid");
+    }
+
+    // 현재 서명 키로 서명한 토큰을 기대한 kid의 공개키로 검증
+    private static Jws<Claims> signedKid(JwtProvider provider, String expectedKid) {
+        String token = provider.sign(Jwts.builder().setSubject("user")).compact();
+        return Jwts.parserBuilder().setSigningKey(provider.publicKey(expectedKid)).build().parseClaimsJws(token);
+    }
+
+    private void writeKeyPair(String kid, KeyPair pair) throws Exception {
+        Files.writeString(keyDir.resolve(kid + ".pub.pem"), pem(pair.getPublic().getEncoded()));
+        Files.writeString(keyDir.resolve(kid + ".key.pem"), pem(pair.getPrivate().getEncoded()));
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        return generator.generateKeyPair();
+    }
+
+    private static String pem(byte[] der) {
+        return "-----BEGIN KEY-----\n" + Base64.getMimeEncoder().encodeToString(der) + "\n-----END KEY-----\n";
+    }
+}
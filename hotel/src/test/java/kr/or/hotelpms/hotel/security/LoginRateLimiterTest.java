@@ -0,0 +1,84 @@
+package kr.or.hotelpms.hotel.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import kr.or.hotelpms.hotel.security.LoginRateLimiter.Scope;
+
+// 로컬 카운터 기준 (Redis 모드도 같은 규칙: 거절된 요청은 세지 않음)
+class LoginRateLimiterTest {
+
+    private static LoginRateLimiter limiter(int maxKeys) {
+        return new LoginRateLimiter(maxKeys, false,
+                new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class));
+    }
+
+    @Test
+    void rejectsRequestsOverTheLimit() {
+        LoginRateLimiter limiter = limiter(1000);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(Scope.FIND_PASSWORD_IP, "10.0.0.1")).isTrue();
+        }
+        assertThat(limiter.tryAcquire(Scope.FIND_PASSWORD_IP, "10.0.0.1")).isFalse();
+        // 다른 키는 영향 없음
+        assertThat(limiter.tryAcquire(Scope.FIND_PASSWORD_IP, "10.0.0.2")).isTrue();
+    }
+
+    @Test
+    void blocksOnlyAfterRepeatedFailures() {
+        LoginRateLimiter limiter = limiter(1000);
+        String key = "alice|10.0.0.1";
+
+        for (int i = 0; i < 9; i++) {
+            limiter.recordFailure(Scope.LOGIN_FAILURE, key);
+        }
+        assertThat(limiter.isBlocked(Scope.LOGIN_FAILURE, key)).isFalse();
+
+        limiter.recordFailure(Scope.LOGIN_FAILURE, key);
+        assertThat(limiter.isBlocked(Scope.LOGIN_FAILURE, key)).isTrue();
+        // 다른 IP에서의 같은 사용자명 로그인은 막지 않음
+        assertThat(limiter.isBlocked(Scope.LOGIN_FAILURE, "alice|10.0.0.2")).isFalse();
+    }
+
+    @Test
+    void checkingDoesNotCountAndSuccessResets() {
+        LoginRateLimiter limiter = limiter(1000);
+        String key = "bob|10.0.0.1";
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.isBlocked(Scope.LOGIN_FAILURE, key)).isFalse();
+        }
+        for (int i = 0; i < 10; i++) {
+            limiter.recordFailure(Scope.LOGIN_FAILURE, key);
+        }
+        assertThat(limiter.isBlocked(Scope.LOGIN_FAILURE, key)).isTrue();
+
+        limiter.reset(Scope.LOGIN_FAILURE, key);
+        assertThat(limiter.isBlocked(Scope.LOGIN_FAILURE, key)).isFalse();
+    }
+
+    @Test
+    void newKeysAreStillLimitedWhenKeyCapIsReached() {
+        LoginRateLimiter limiter = limiter(10);
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire(Scope.FIND_PASSWORD_IP, "192.168.0." + i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(Scope.FIND_PASSWORD_IP, "10.9.9.9")).isTrue();
+        }
+        assertThat(limiter.tryAcquire(Scope.FIND_PASSWORD_IP, "10.9.9.9")).isFalse();
+    }
+
+    @Test
+    void blankKeysAreNotLimited() {
+        LoginRateLimiter limiter = limiter(1000);
+
+        assertThat(limiter.tryAcquire(Scope.LOGIN_IP, "")).isTrue();
+        assertThat(limiter.isBlocked(Scope.LOGIN_FAILURE, null)).isFalse();
+    }
+}
@@ -0,0 +1,45 @@
+package kr.or.hotelpms.hotel.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+
+    @Test
+    void returnsClaimsUntilTokenExpires() {
+        cache.put("valid", claimsExpiringIn(60_000));
+        cache.put("expired", claimsExpiringIn(-1_000));
+
+        assertThat(cache.get("valid")).isNotNull();
+        assertThat(cache.get("expired")).isNull();
+    }
+
+    @Test
+    void skipsTokensWithoutExpiration() {
+        cache.put("no-exp", Jwts.claims().setSubject("user"));
+
+        assertThat(cache.get("no-exp")).isNull();
+    }
+
+    @Test
+    void clearDropsEverything() {
+        cache.put("token", claimsExpiringIn(60_000));
+
+        cache.clear();
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    private static Claims claimsExpiringIn(long millis) {
+        return Jwts.claims().setSubject("user").setExpiration(new Date(System.currentTimeMillis() + millis));
+    }
+}
@@ -0,0 +1,141 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+
+// 증감분 배치 반영, 빈 항목 정리, 보정이 다른 노드의 반영 전 증감분과 겹쳐도 두 번 더하지 않는지 확인
+class LikeCountBufferTest extends IntegrationTestSupport {
+
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long reviewId;
+
+    @BeforeEach
+    void setUp() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO reviews (username, content, rating, like_count, comment_count, created_at) " +
+                    "VALUES ('buffer-owner', '좋아요 수 테스트', 5, 0, 0, ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+        reviewId = keyHolder.getKey().longValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM review_likes WHERE review_id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM reviews WHERE id = ?", reviewId);
+    }
+
+    @Test
+    void flushAddsDeltasAndDropsDrainedEntries() {
+        likeCountBuffer.add(reviewId, 1);
+        likeCountBuffer.add(reviewId, 1);
+        likeCountBuffer.add(reviewId, -1);
+        likeCountBuffer.add(reviewId, 1);
+
+        likeCountBuffer.flush();
+
+        assertThat(likeCount()).isEqualTo(2);
+        assertThat(likeCountBuffer.pendingDelta(reviewId)).isZero();
+        assertThat(pending(likeCountBuffer)).doesNotContainKey(reviewId);
+    }
+
+    @Test
+    void cancellingDeltasAndDeletedReviewsLeaveNoEntries() {
+        LikeCountBuffer buffer = new LikeCountBuffer(jdbcTemplate);
+        buffer.add(reviewId, 1);
+        buffer.add(reviewId, -1);
+        assertThat(pending(buffer)).isEmpty();
+
+        // 반영 전에 삭제된 리뷰 - UPDATE가 0건이어도 항목은 지워짐
+        buffer.add(Long.MAX_VALUE, 1);
+        buffer.flush();
+        assertThat(pending(buffer)).isEmpty();
+    }
+
+    @Test
+    void reconcileDoesNotDoubleCountDeltasPendingOnAnotherNode() throws Exception {
+        // 다른 노드: 좋아요 행은 커밋됐지만 증감분은 보정이 끝나기 전에야 반영됨
+        LikeCountBuffer otherNode = new LikeCountBuffer(jdbcTemplate);
+        insertLike("buffer-liker-1");
+        insertLike("buffer-liker-2");
+        otherNode.add(reviewId, 1);
+        otherNode.add(reviewId, 1);
+        CompletableFuture<Void> otherFlush = CompletableFuture.runAsync(otherNode::flush,
+                CompletableFuture.delayedExecutor(500, TimeUnit.MILLISECONDS));
+
+        likeCountBuffer.reconcile();
+        otherFlush.get(5, TimeUnit.SECONDS);
+
+        assertThat(likeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void reconcileRepairsSettledDrift() {
+        // 반영 전에 노드가 죽어 잃어버린 증감분
+        insertLike("buffer-liker-1");
+        jdbcTemplate.update("UPDATE reviews SET like_count = 5 WHERE id = ?", reviewId);
+
+        likeCountBuffer.reconcile();
+
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void flushKeepsCachedReviewPages() {
+        Cache pages = cacheManager.getCache(CacheConfig.REVIEW_PAGES);
+        pages.put("0:10:createdAt,DESC", "cached");
+        insertLike("buffer-liker-1");
+        likeCountBuffer.add(reviewId, 1);
+
+        likeCountBuffer.flush();
+
+        assertThat(likeCount()).isEqualTo(1);
+        assertThat(pages.get("0:10:createdAt,DESC")).isNotNull();
+        pages.evict("0:10:createdAt,DESC");
+    }
+
+    private void insertLike(String username) {
+        jdbcTemplate.update("INSERT INTO review_likes (review_id, username) VALUES (?, ?)", reviewId, username);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Long> pending(LikeCountBuffer buffer) {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(buffer, "pending");
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM reviews WHERE id = ?", Integer.class, reviewId);
+    }
+}
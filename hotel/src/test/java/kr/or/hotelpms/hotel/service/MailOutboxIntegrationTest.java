@@ -0,0 +1,93 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+import kr.or.hotelpms.hotel.model.MailOutbox;
+import kr.or.hotelpms.hotel.repository.MailOutboxRepository;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+
+// GreenMail(localhost:3025)로 outbox 발송, 최종 실패 시 변수 삭제, 기록 정리 확인
+class MailOutboxIntegrationTest extends IntegrationTestSupport {
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxWorker mailOutboxWorker;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void sendsQueuedMailAndDropsTheModel() {
+        mailOutboxService.enqueue("guest@test.local", "temporary-password", Map.of("tempPassword", "tmp12345"));
+
+        mailOutboxWorker.drain();
+
+        MimeMessage[] received = GREEN_MAIL.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(GreenMailUtil.getBody(received[0])).contains("tmp12345");
+
+        MailOutbox mail = mailOutboxRepository.findAll().get(0);
+        assertThat(mail.getStatus()).isEqualTo(MailOutbox.SENT);
+        assertThat(mail.getModel()).isNull();
+    }
+
+    @Test
+    void finalFailureClearsTheModelAndIsPurged() {
+        mailOutboxService.enqueue("guest@test.local", "temporary-password", Map.of("tempPassword", "tmp12345"));
+        Long id = mailOutboxRepository.findAll().get(0).getId();
+        jdbcTemplate.update("UPDATE mail_outbox SET attempts = 5 WHERE id = ?", id);
+
+        mailOutboxService.complete(List.of(id), Map.of(id, "550 mailbox unavailable"));
+
+        MailOutbox failed = mailOutboxRepository.findById(id).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(MailOutbox.FAILED);
+        assertThat(failed.getModel()).isNull();
+
+        jdbcTemplate.update("UPDATE mail_outbox SET created_at = ? WHERE id = ?", LocalDateTime.now().minusDays(8), id);
+        assertThat(mailOutboxService.deleteFinishedBefore(LocalDateTime.now().minusDays(7))).isEqualTo(1);
+        assertThat(mailOutboxRepository.findById(id)).isEmpty();
+    }
+
+    @Test
+    void leaseCoversAWholeBatchOfSmtpTimeouts() {
+        for (int i = 0; i < 3; i++) {
+            mailOutboxService.enqueue("guest" + i + "@test.local", "temporary-password", Map.of("tempPassword", "x"));
+        }
+        LocalDateTime before = LocalDateTime.now();
+
+        List<MailOutbox> claimed = mailOutboxService.claim(50);
+
+        assertThat(claimed).hasSize(3);
+        // 테스트 설정의 SMTP 제한 시간(기본 10초) x 3통 이상
+        assertThat(claimed.get(0).getLockedUntil()).isAfter(before.plusSeconds(3 * 10));
+        assertThat(mailOutboxService.leaseSeconds(50)).isGreaterThanOrEqualTo(50 * 10);
+    }
+}
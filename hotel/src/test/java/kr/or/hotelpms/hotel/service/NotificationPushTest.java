@@ -0,0 +1,58 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import kr.or.hotelpms.hotel.dto.NotificationDto;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+
+// 알림 푸시는 저장 후 생성된 id를 담아 나가야 함 (클라이언트의 읽음 처리/중복 제거용)
+class NotificationPushTest extends IntegrationTestSupport {
+
+    private static final String USERNAME = "push-test-user";
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private PushService pushService;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notifications WHERE username = ?", USERNAME);
+    }
+
+    @Test
+    void pushedNotificationsCarryStoredIds() {
+        notificationService.notify(USERNAME, "TEST", "첫 알림", null, null, null);
+        notificationService.notify(USERNAME, "TEST", "둘째 알림", null, null, null);
+        // 저장 전에는 푸시하지 않음
+        verifyNoInteractions(pushService);
+
+        notificationService.flush();
+
+        ArgumentCaptor<NotificationDto.NotificationResponse> pushed =
+                ArgumentCaptor.forClass(NotificationDto.NotificationResponse.class);
+        verify(pushService, times(2)).notification(eq(USERNAME), pushed.capture());
+        List<Long> storedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM notifications WHERE username = ? ORDER BY id", Long.class, USERNAME);
+        assertThat(pushed.getAllValues())
+                .extracting(NotificationDto.NotificationResponse::getId)
+                .containsExactlyElementsOf(storedIds);
+    }
+}
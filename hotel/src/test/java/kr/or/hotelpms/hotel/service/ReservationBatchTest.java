@@ -0,0 +1,112 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.dto.ReservationDto;
+import kr.or.hotelpms.hotel.model.Reservation;
+import kr.or.hotelpms.hotel.repository.UserRepository;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.support.RoomFixtures;
+
+// 단체 예약: 빈 방을 객실 번호 순으로 한꺼번에 배정하고, 모자라거나 요청이 잘못되면 하나도 만들지 않음
+class ReservationBatchTest extends IntegrationTestSupport {
+
+    private static final String ROOM_TYPE = "BATCHTEST";
+    private static final LocalDate CHECK_IN = LocalDate.of(2033, 6, 10);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2033, 6, 12);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 730001~730005 중 730001, 730003은 이미 예약됨
+        RoomFixtures.insertRooms(jdbcTemplate, ROOM_TYPE, 730001, 5);
+        Long userId = userRepository.findByUsername("admin").orElseThrow().getId();
+        RoomFixtures.bookRoom(jdbcTemplate, "730001", userId, CHECK_IN, CHECK_OUT);
+        RoomFixtures.bookRoom(jdbcTemplate, "730003", userId, CHECK_IN.minusDays(1), CHECK_IN.plusDays(1));
+        cacheService.clearAfterCommit(CacheConfig.ROOMS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RoomFixtures.deleteRooms(jdbcTemplate, ROOM_TYPE);
+        cacheService.clearAfterCommit(CacheConfig.ROOMS);
+    }
+
+    @Test
+    void assignsFreeRoomsInRoomNumberOrder() {
+        List<Reservation> reservations = reservationService.createReservationsBatch(request(3, CHECK_IN, CHECK_OUT));
+
+        assertThat(reservations).extracting(reservation -> reservation.getRoom().getRoomNumber())
+                .containsExactly("730002", "730004", "730005");
+        assertThat(reservationCount()).isEqualTo(5);
+    }
+
+    @Test
+    void rejectsWholeBatchWhenOnlySomeRoomsAreFree() {
+        assertThatThrownBy(() -> reservationService.createReservationsBatch(request(4, CHECK_IN, CHECK_OUT)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("3개뿐");
+
+        assertThat(reservationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsInvalidRequests() {
+        // 체크인/체크아웃 순서
+        assertThatThrownBy(() -> reservationService.createReservationsBatch(request(1, CHECK_OUT, CHECK_IN)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reservationService.createReservationsBatch(request(1, CHECK_IN, CHECK_IN)))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 객실 수 범위 (1~50)
+        assertThatThrownBy(() -> reservationService.createReservationsBatch(request(0, CHECK_IN, CHECK_OUT)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reservationService.createReservationsBatch(request(51, CHECK_IN, CHECK_OUT)))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 없는 객실 타입
+        ReservationDto.BatchReservationRequest unknownType = request(1, CHECK_IN, CHECK_OUT);
+        unknownType.setRoomType("NOSUCHTYPE");
+        assertThatThrownBy(() -> reservationService.createReservationsBatch(unknownType))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(reservationCount()).isEqualTo(2);
+    }
+
+    private static ReservationDto.BatchReservationRequest request(int roomCount, LocalDate checkIn, LocalDate checkOut) {
+        ReservationDto.BatchReservationRequest request = new ReservationDto.BatchReservationRequest();
+        request.setUsername("admin");
+        request.setGuestName("단체 예약 테스트");
+        request.setRoomType(ROOM_TYPE);
+        request.setRoomCount(roomCount);
+        request.setCheckIn(checkIn);
+        request.setCheckOut(checkOut);
+        request.setPeople(2);
+        return request;
+    }
+
+    private int reservationCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservations res JOIN rooms r ON res.room_id = r.id " +
+                "WHERE r.room_type = ?", Integer.class, ROOM_TYPE);
+    }
+}
@@ -0,0 +1,156 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.dto.ReservationDto;
+import kr.or.hotelpms.hotel.model.Room;
+import kr.or.hotelpms.hotel.model.RoomStatus;
+import kr.or.hotelpms.hotel.repository.UserRepository;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.support.RoomFixtures;
+
+// 동시 예약 200건에서도 같은 객실/기간이 두 번 예약되지 않는지 확인
+class ReservationConcurrencyTest extends IntegrationTestSupport {
+
+    private static final String ROOM_TYPE = "STRESS";
+    private static final int ROOM_COUNT = 10;
+    private static final int REQUESTS = 200;
+    private static final LocalDate CHECK_IN = LocalDate.of(2032, 5, 10);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2032, 5, 12);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> roomIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= ROOM_COUNT; i++) {
+            Room room = new Room();
+            room.setRoomNumber(String.valueOf(600000 + i));
+            room.setRoomType(ROOM_TYPE);
+            room.setPrice(new BigDecimal("100000"));
+            room.setStatus(RoomStatus.AVAILABLE);
+            roomIds.add(roomService.createRoom(room).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RoomFixtures.deleteRooms(jdbcTemplate, ROOM_TYPE);
+        cacheService.clearAfterCommit(CacheConfig.ROOMS);
+    }
+
+    @Test
+    void sameRoomIsBookedOnlyOnce() throws Exception {
+        Long userId = userRepository.findByUsername("admin").orElseThrow().getId();
+        Long roomId = roomIds.get(0);
+
+        List<Boolean> results = runConcurrently(() -> {
+            reservationService.createReservation(userId, roomId, request());
+            return true;
+        });
+
+        assertThat(results.stream().filter(Boolean::booleanValue).count()).isEqualTo(1);
+        assertThat(bookedCount()).isEqualTo(1);
+        assertNoOverlaps();
+    }
+
+    @Test
+    void autoAssignmentNeverDoubleBooks() throws Exception {
+        List<Boolean> results = runConcurrently(() -> {
+            ReservationDto.ReservationRequest request = request();
+            request.setRoomType(ROOM_TYPE);
+            reservationService.createReservationByUsername(request);
+            return true;
+        });
+
+        long succeeded = results.stream().filter(Boolean::booleanValue).count();
+        assertThat(succeeded).isPositive().isLessThanOrEqualTo(ROOM_COUNT);
+        assertThat(bookedCount()).isEqualTo(succeeded);
+        assertNoOverlaps();
+    }
+
+    // 200개 요청을 동시에 출발시키고 성공 여부만 모음 (실패는 예외 종류와 무관하게 거절로 봄)
+    private List<Boolean> runConcurrently(Callable<Boolean> booking) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return booking.call();
+                    } catch (RuntimeException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(2, TimeUnit.MINUTES));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ReservationDto.ReservationRequest request() {
+        ReservationDto.ReservationRequest request = new ReservationDto.ReservationRequest();
+        request.setUsername("admin");
+        request.setGuestName("동시성 테스트");
+        request.setCheckIn(CHECK_IN);
+        request.setCheckOut(CHECK_OUT);
+        request.setPeople(1);
+        return request;
+    }
+
+    private long bookedCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservations res JOIN rooms r ON res.room_id = r.id WHERE r.room_type = ?",
+                Long.class, ROOM_TYPE);
+    }
+
+    // 같은 객실에 기간이 겹치는 예약 쌍이 없어야 함
+    private void assertNoOverlaps() {
+        Long overlaps = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservations a JOIN reservations b " +
+                "ON a.room_id = b.room_id AND a.id < b.id AND a.check_in < b.check_out AND b.check_in < a.check_out " +
+                "JOIN rooms r ON a.room_id = r.id WHERE r.room_type = ?",
+                Long.class, ROOM_TYPE);
+        assertThat(overlaps).isZero();
+    }
+}
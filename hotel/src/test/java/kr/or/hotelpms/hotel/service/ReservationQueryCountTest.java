@@ -0,0 +1,98 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.or.hotelpms.hotel.dto.ReservationDto;
+import kr.or.hotelpms.hotel.repository.UserRepository;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.support.RoomFixtures;
+
+// 예약 목록 API가 행 수와 무관하게 조인 쿼리 한 번으로 끝나는지 Hibernate 통계로 확인
+class ReservationQueryCountTest extends IntegrationTestSupport {
+
+    private static final String ROOM_TYPE = "QCOUNT";
+    private static final int RESERVATIONS = 20;
+    private static final LocalDate CHECK_IN = LocalDate.of(2033, 1, 10);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2033, 1, 12);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.findByUsername("admin").orElseThrow().getId();
+        RoomFixtures.insertRooms(jdbcTemplate, ROOM_TYPE, 500001, RESERVATIONS);
+        RoomFixtures.bookFirstRooms(jdbcTemplate, ROOM_TYPE, RESERVATIONS, userId, CHECK_IN, CHECK_OUT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RoomFixtures.deleteRooms(jdbcTemplate, ROOM_TYPE);
+    }
+
+    @Test
+    void reservationsByUserUseOneQuery() {
+        List<ReservationDto.ReservationResponse> result =
+                assertStatements(1, () -> reservationService.getReservationsByUser(userId));
+        assertThat(result).hasSizeGreaterThanOrEqualTo(RESERVATIONS);
+    }
+
+    @Test
+    void reservationsByDateUseOneQuery() {
+        List<ReservationDto.ReservationResponse> result =
+                assertStatements(1, () -> reservationService.getReservationsByDate(CHECK_IN));
+        assertThat(result).hasSizeGreaterThanOrEqualTo(RESERVATIONS);
+    }
+
+    @Test
+    void allReservationsUseOneQuery() {
+        List<ReservationDto.ReservationResponse> result =
+                assertStatements(1, () -> reservationService.getAllReservations());
+        assertThat(result).hasSizeGreaterThanOrEqualTo(RESERVATIONS);
+    }
+
+    @Test
+    void adminPageUsesOneQuery() {
+        ReservationDto.ReservationPage page = assertStatements(1, () -> reservationService.searchReservations(
+                null, null, null, ROOM_TYPE, null, null, 10));
+        assertThat(page.getItems()).hasSize(10);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        // 다음 페이지도 같은 비용
+        ReservationDto.ReservationPage next = assertStatements(1, () -> reservationService.searchReservations(
+                null, null, null, ROOM_TYPE, null, page.getNextCursor(), 10));
+        assertThat(next.getItems()).hasSize(10);
+    }
+
+    private <T> T assertStatements(long ceiling, Supplier<T> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(ceiling);
+        return result;
+    }
+}
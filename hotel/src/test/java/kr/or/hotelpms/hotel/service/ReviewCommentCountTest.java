@@ -0,0 +1,129 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.core.userdetails.User;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.dto.ReviewDto;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+
+// 댓글 수 컬럼: 시작 시 보정은 어긋난 리뷰만 고치고, 리뷰 목록은 댓글이 있어도 쿼리 3번으로 끝남
+class ReviewCommentCountTest extends IntegrationTestSupport {
+
+    private static final String OWNER = "comment-count-owner";
+    private static final int REVIEWS = 5;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> reviewIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < REVIEWS; i++) {
+            Long reviewId = insertReview();
+            reviewIds.add(reviewId);
+            // i번째 리뷰에 댓글 i+1개 (컬럼은 정상 값)
+            for (int c = 0; c <= i; c++) {
+                jdbcTemplate.update("INSERT INTO comments (content, username, created_at, review_id) VALUES (?, ?, NOW(), ?)",
+                        "댓글 " + c, OWNER, reviewId);
+            }
+            jdbcTemplate.update("UPDATE reviews SET comment_count = ? WHERE id = ?", i + 1, reviewId);
+        }
+        cacheService.clearAfterCommit(CacheConfig.REVIEW_PAGES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long reviewId : reviewIds) {
+            jdbcTemplate.update("DELETE FROM comments WHERE review_id = ?", reviewId);
+            jdbcTemplate.update("DELETE FROM reviews WHERE id = ?", reviewId);
+        }
+        cacheService.clearAfterCommit(CacheConfig.REVIEW_PAGES);
+    }
+
+    @Test
+    void recountRepairsOnlyMismatchedReviews() {
+        // 다른 테스트가 남긴 어긋난 값은 먼저 정리
+        reviewService.recountComments();
+        jdbcTemplate.update("UPDATE reviews SET comment_count = 0 WHERE id = ?", reviewIds.get(2));
+        jdbcTemplate.update("UPDATE reviews SET comment_count = 99 WHERE id = ?", reviewIds.get(4));
+
+        assertThat(reviewService.recountComments()).isEqualTo(2);
+
+        for (int i = 0; i < REVIEWS; i++) {
+            assertThat(commentCount(reviewIds.get(i))).isEqualTo(i + 1);
+        }
+        // 이미 맞으면 아무것도 쓰지 않음
+        assertThat(reviewService.recountComments()).isZero();
+    }
+
+    @Test
+    void reviewPageUsesThreeQueriesWithComments() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        User user = new User(OWNER, "", List.of());
+
+        Page<ReviewDto> page = assertStatements(3, () -> reviewService.getAllReviews(pageable, user));
+
+        assertThat(page.getContent())
+                .filteredOn(review -> reviewIds.contains(review.getId()))
+                .extracting(ReviewDto::getCommentCount)
+                .containsExactly(5, 4, 3, 2, 1);
+    }
+
+    private Long insertReview() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO reviews (username, content, rating, like_count, comment_count, created_at) " +
+                    "VALUES (?, '댓글 수 테스트', 4, 0, 0, ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, OWNER);
+            ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private int commentCount(Long reviewId) {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM reviews WHERE id = ?", Integer.class, reviewId);
+    }
+
+    private <T> T assertStatements(long ceiling, Supplier<T> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(ceiling);
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import jakarta.persistence.EntityNotFoundException;
+import kr.or.hotelpms.hotel.dto.ReviewDto;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+
+// 한 리뷰에 좋아요 토글 500건을 동시에 보내도 교착으로 실패하지 않고 좋아요 수가 review_likes와 맞는지 확인
+class ReviewLikeConcurrencyTest extends IntegrationTestSupport {
+
+    private static final String OWNER = "like-owner";
+    private static final int REQUESTS = 500;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long reviewId;
+
+    @BeforeEach
+    void setUp() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO reviews (username, content, rating, like_count, comment_count, created_at) " +
+                    "VALUES (?, ?, 5, 0, 0, ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, OWNER);
+            ps.setString(2, "동시성 테스트");
+            ps.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+        reviewId = keyHolder.getKey().longValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeCountBuffer.flush();
+        notificationService.flush();
+        jdbcTemplate.update("DELETE FROM review_likes WHERE review_id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM reviews WHERE id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM notifications WHERE username = ?", OWNER);
+    }
+
+    @Test
+    void parallelLikesFromDistinctUsersAreAllCounted() throws Exception {
+        List<ReviewDto> results = runConcurrently(i -> "liker-" + i);
+
+        assertThat(results).hasSize(REQUESTS).allMatch(ReviewDto::isLikedByCurrentUser);
+        likeCountBuffer.flush();
+        assertThat(likeRows()).isEqualTo(REQUESTS);
+        assertThat(likeCount()).isEqualTo(REQUESTS);
+    }
+
+    @Test
+    void parallelTogglesBySameUsersKeepCountInSync() throws Exception {
+        // 50명이 10번씩 동시에 토글 - 같은 사용자의 요청끼리 겹쳐도 모두 성공하고 카운터는 행 수와 같아야 함
+        List<ReviewDto> results = runConcurrently(i -> "toggler-" + (i % 50));
+
+        assertThat(results).hasSize(REQUESTS);
+        likeCountBuffer.flush();
+        assertThat(likeCount()).isEqualTo(likeRows());
+    }
+
+    @Test
+    void toggleOnDeletedReviewIsNotReportedAsLiked() {
+        jdbcTemplate.update("DELETE FROM reviews WHERE id = ?", reviewId);
+
+        assertThatThrownBy(() -> reviewService.toggleLikeAndGetDto(reviewId, "liker"))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(likeRows()).isZero();
+    }
+
+    // 500개 요청을 동시에 출발시킴 - 하나라도 예외로 끝나면 get()에서 실패
+    private List<ReviewDto> runConcurrently(IntFunction<String> username) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ReviewDto>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                String liker = username.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return reviewService.toggleLikeAndGetDto(reviewId, liker);
+                }));
+            }
+            start.countDown();
+            List<ReviewDto> results = new ArrayList<>();
+            for (Future<ReviewDto> future : futures) {
+                results.add(future.get(2, TimeUnit.MINUTES));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review_likes WHERE review_id = ?",
+                Integer.class, reviewId);
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM reviews WHERE id = ?", Integer.class, reviewId);
+    }
+}
@@ -0,0 +1,141 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import kr.or.hotelpms.hotel.repository.ReviewRepository;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+
+// 보관 정책 대상 선택(max-count/max-age), 묶음 반복 종료, 노드 간 잠금
+// 삭제 대상 조회/삭제는 mock - 공유 DB의 다른 테스트 리뷰를 지우지 않도록 잠금만 실제 MariaDB 사용
+class ReviewRetentionJobTest extends IntegrationTestSupport {
+
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final ReviewService reviewService = mock(ReviewService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void maxCountSelectsBeyondNewestOnly() {
+        when(reviewRepository.findIdsBeyondNewest(100, 50)).thenReturn(List.of());
+
+        job(100, 0, 50).purgeNow();
+
+        verify(reviewRepository).findIdsBeyondNewest(100, 50);
+        verify(reviewRepository, never()).findIdsCreatedBefore(any(), anyInt());
+    }
+
+    @Test
+    void maxAgeSelectsCreatedBeforeCutoffOnly() {
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(reviewRepository.findIdsCreatedBefore(cutoff.capture(), eq(50))).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+        job(0, 30, 50).purgeNow();
+
+        assertThat(cutoff.getValue()).isBetween(before, LocalDateTime.now().minusDays(30));
+        verify(reviewRepository, never()).findIdsBeyondNewest(anyInt(), anyInt());
+    }
+
+    @Test
+    void disabledPoliciesDoNothing() {
+        assertThat(job(0, 0, 50).purgeNow()).isZero();
+
+        verifyNoInteractions(reviewRepository, reviewService);
+    }
+
+    @Test
+    void stopsAfterPartialChunk() {
+        when(reviewRepository.findIdsBeyondNewest(10, 2))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        when(reviewService.deleteReviewsChunk(anyList())).thenAnswer(call -> call.<List<?>>getArgument(0).size());
+
+        assertThat(job(10, 0, 2).purgeNow()).isEqualTo(5);
+
+        verify(reviewRepository, times(3)).findIdsBeyondNewest(10, 2);
+        verify(reviewService, times(3)).deleteReviewsChunk(anyList());
+    }
+
+    @Test
+    void stopsAtEmptyChunk() {
+        when(reviewRepository.findIdsBeyondNewest(10, 2))
+                .thenReturn(List.of(1L, 2L), List.of());
+        when(reviewService.deleteReviewsChunk(anyList())).thenAnswer(call -> call.<List<?>>getArgument(0).size());
+
+        assertThat(job(10, 0, 2).purgeNow()).isEqualTo(2);
+
+        verify(reviewRepository, times(2)).findIdsBeyondNewest(10, 2);
+        verify(reviewService, times(1)).deleteReviewsChunk(anyList());
+    }
+
+    @Test
+    void stopsAtChunkLimitPerRun() {
+        // 삭제가 반영되지 않아 계속 같은 묶음이 나와도 한 번 실행은 100묶음에서 끝남
+        when(reviewRepository.findIdsBeyondNewest(10, 2)).thenReturn(List.of(1L, 2L));
+        when(reviewService.deleteReviewsChunk(anyList())).thenReturn(0);
+
+        job(10, 0, 2).purgeNow();
+
+        verify(reviewRepository, times(100)).findIdsBeyondNewest(10, 2);
+    }
+
+    @Test
+    void skipsRunWhileAnotherNodeHoldsLock() throws Exception {
+        when(reviewRepository.findIdsBeyondNewest(100, 50)).thenReturn(List.of());
+        ReviewRetentionJob job = job(100, 0, 50);
+
+        // 다른 노드 역할: 별도 연결로 잠금을 잡고 있는 동안은 건너뜀
+        try (Connection other = dataSource.getConnection()) {
+            assertThat(lock(other, "SELECT GET_LOCK(?, 0)")).isEqualTo(1);
+            job.purge();
+            verifyNoInteractions(reviewRepository);
+            lock(other, "SELECT RELEASE_LOCK(?)");
+        }
+
+        // 잠금이 풀리면 실행하고, 끝나면 다시 풀어 둠
+        job.purge();
+        verify(reviewRepository).findIdsBeyondNewest(100, 50);
+        assertThat(jdbcTemplate.queryForObject("SELECT IS_FREE_LOCK(?)", Integer.class, ReviewRetentionJob.LOCK_NAME))
+                .isEqualTo(1);
+    }
+
+    private ReviewRetentionJob job(int maxCount, int maxAgeDays, int chunkSize) {
+        return new ReviewRetentionJob(reviewRepository, reviewService, jdbcTemplate, maxCount, maxAgeDays, chunkSize);
+    }
+
+    private static int lock(Connection connection, String sql) throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, ReviewRetentionJob.LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+}
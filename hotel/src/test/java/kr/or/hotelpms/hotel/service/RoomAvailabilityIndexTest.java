@@ -0,0 +1,129 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import kr.or.hotelpms.hotel.dto.ReservationDto;
+import kr.or.hotelpms.hotel.model.Reservation;
+import kr.or.hotelpms.hotel.model.Room;
+import kr.or.hotelpms.hotel.repository.ReservationRepository;
+
+// 트랜잭션 밖이라 *AfterCommit 반영은 바로 실행됨
+class RoomAvailabilityIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final RoomAvailabilityIndex index = new RoomAvailabilityIndex(reservationRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(reservationRepository.findStayWindowsCheckingOutAfter(any())).thenReturn(List.of(
+                new Stay(1L, 100L, TODAY.plusDays(10), TODAY.plusDays(12)),
+                new Stay(2L, 200L, TODAY.plusDays(1), TODAY.plusDays(30))));
+    }
+
+    @Test
+    void coversOnlyFromTodayAfterRebuild() {
+        assertThat(index.covers(TODAY)).isFalse();
+
+        index.rebuild();
+
+        assertThat(index.covers(TODAY)).isTrue();
+        assertThat(index.covers(TODAY.plusDays(365))).isTrue();
+        assertThat(index.covers(TODAY.minusDays(1))).isFalse();
+    }
+
+    @Test
+    void isFreeTreatsStaysAsHalfOpen() {
+        index.rebuild();
+
+        // 체크아웃 날 체크인, 체크인 날 체크아웃은 겹치지 않음
+        assertThat(index.isFree(100L, TODAY.plusDays(8), TODAY.plusDays(10))).isTrue();
+        assertThat(index.isFree(100L, TODAY.plusDays(12), TODAY.plusDays(14))).isTrue();
+        assertThat(index.isFree(100L, TODAY.plusDays(11), TODAY.plusDays(13))).isFalse();
+        assertThat(index.isFree(100L, TODAY.plusDays(9), TODAY.plusDays(13))).isFalse();
+        // 훨씬 앞에서 시작한 장기 숙박도 찾아냄
+        assertThat(index.isFree(200L, TODAY.plusDays(20), TODAY.plusDays(21))).isFalse();
+        // 예약이 없는 객실
+        assertThat(index.isFree(300L, TODAY.plusDays(1), TODAY.plusDays(2))).isTrue();
+    }
+
+    @Test
+    void recordMovesAndRemoveFreesReservation() {
+        index.rebuild();
+
+        // 같은 예약을 다른 날짜로 옮기면 기존 구간은 비워짐
+        index.recordAfterCommit(reservation(1L, 100L, TODAY.plusDays(40), TODAY.plusDays(42)));
+        assertThat(index.isFree(100L, TODAY.plusDays(10), TODAY.plusDays(12))).isTrue();
+        assertThat(index.isFree(100L, TODAY.plusDays(41), TODAY.plusDays(43))).isFalse();
+
+        index.removeAfterCommit(1L);
+        assertThat(index.isFree(100L, TODAY.plusDays(40), TODAY.plusDays(42))).isTrue();
+    }
+
+    @Test
+    void pruneExpiredDropsOnlyFinishedStays() {
+        index.rebuild();
+        index.record(reservation(3L, 100L, TODAY.minusDays(3), TODAY));
+        index.record(reservation(4L, 100L, TODAY.minusDays(1), TODAY.plusDays(1)));
+
+        index.pruneExpired();
+
+        // 오늘 체크아웃한 숙박은 정리, 아직 머무는 숙박과 이후 예약은 유지
+        assertThat(index.isFree(100L, TODAY.minusDays(3), TODAY.minusDays(1))).isTrue();
+        assertThat(index.isFree(100L, TODAY, TODAY.plusDays(1))).isFalse();
+        assertThat(index.isFree(100L, TODAY.plusDays(10), TODAY.plusDays(11))).isFalse();
+        assertThat(index.covers(TODAY)).isTrue();
+    }
+
+    @Test
+    void pruneExpiredIsNoOpBeforeRebuild() {
+        index.pruneExpired();
+
+        assertThat(index.covers(TODAY)).isFalse();
+    }
+
+    private static Reservation reservation(Long id, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        Room room = new Room();
+        room.setId(roomId);
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setRoom(room);
+        reservation.setCheckIn(checkIn);
+        reservation.setCheckOut(checkOut);
+        return reservation;
+    }
+
+    private record Stay(Long id, Long roomId, LocalDate checkIn, LocalDate checkOut)
+            implements ReservationDto.StayWindow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getRoomId() {
+            return roomId;
+        }
+
+        @Override
+        public LocalDate getCheckIn() {
+            return checkIn;
+        }
+
+        @Override
+        public LocalDate getCheckOut() {
+            return checkOut;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.dto.RoomAvailabilityDto;
+import kr.or.hotelpms.hotel.model.Room;
+import kr.or.hotelpms.hotel.model.RoomStatus;
+import kr.or.hotelpms.hotel.repository.UserRepository;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.support.RoomFixtures;
+
+// 빈 방 달력(차분 배열 집계, 90박 상한)과 객실 스냅샷 폐기
+class RoomServiceTest extends IntegrationTestSupport {
+
+    private static final String CALENDAR_TYPE = "CALTEST";
+    private static final String CATALOG_TYPE = "CATTEST";
+    private static final LocalDate FROM = LocalDate.of(2033, 5, 1);
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RoomFixtures.insertRooms(jdbcTemplate, CALENDAR_TYPE, 720001, 4);
+        cacheService.clearAfterCommit(CacheConfig.ROOMS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RoomFixtures.deleteRooms(jdbcTemplate, CALENDAR_TYPE);
+        RoomFixtures.deleteRooms(jdbcTemplate, CATALOG_TYPE);
+        cacheService.clearAfterCommit(CacheConfig.ROOMS);
+    }
+
+    @Test
+    void calendarCountsOverlappingStaysPerNight() {
+        Long userId = userRepository.findByUsername("admin").orElseThrow().getId();
+        // 기간 앞에서 시작한 숙박, 기간 안의 숙박, 기간 뒤로 이어지는 숙박, 체크아웃 날에 시작하는 숙박
+        RoomFixtures.bookRoom(jdbcTemplate, "720001", userId, FROM.minusDays(2), FROM.plusDays(1));
+        RoomFixtures.bookRoom(jdbcTemplate, "720002", userId, FROM.plusDays(1), FROM.plusDays(3));
+        RoomFixtures.bookRoom(jdbcTemplate, "720003", userId, FROM.plusDays(4), FROM.plusDays(20));
+        RoomFixtures.bookRoom(jdbcTemplate, "720004", userId, FROM.plusDays(5), FROM.plusDays(6));
+
+        RoomAvailabilityDto.CalendarResponse calendar =
+                roomService.getAvailabilityCalendar(CALENDAR_TYPE, FROM, FROM.plusDays(5));
+
+        assertThat(calendar.getTotalRooms()).isEqualTo(4);
+        assertThat(calendar.getNights()).extracting(RoomAvailabilityDto.Night::getDate)
+                .containsExactly(FROM, FROM.plusDays(1), FROM.plusDays(2), FROM.plusDays(3), FROM.plusDays(4));
+        assertThat(calendar.getNights()).extracting(RoomAvailabilityDto.Night::getAvailableRooms)
+                .containsExactly(3L, 3L, 3L, 4L, 3L);
+    }
+
+    @Test
+    void calendarAllowsUpToNinetyNights() {
+        RoomAvailabilityDto.CalendarResponse calendar =
+                roomService.getAvailabilityCalendar(CALENDAR_TYPE, FROM, FROM.plusDays(90));
+
+        assertThat(calendar.getNights()).hasSize(90);
+        assertThat(calendar.getNights()).allSatisfy(night -> assertThat(night.getAvailableRooms()).isEqualTo(4));
+
+        assertThatThrownBy(() -> roomService.getAvailabilityCalendar(CALENDAR_TYPE, FROM, FROM.plusDays(91)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> roomService.getAvailabilityCalendar(CALENDAR_TYPE, FROM, FROM))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> roomService.getAvailabilityCalendar(CALENDAR_TYPE, FROM, FROM.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void catalogIsReusedUntilInvalidated() {
+        assertThat(roomService.getRoomsByType(CATALOG_TYPE)).isEmpty();
+
+        // 서비스를 거치지 않은 변경은 스냅샷에 보이지 않다가 폐기 후 다시 적재될 때 반영
+        RoomFixtures.insertRooms(jdbcTemplate, CATALOG_TYPE, 720101, 1);
+        assertThat(roomService.getRoomsByType(CATALOG_TYPE)).isEmpty();
+
+        cacheService.clearAfterCommit(CacheConfig.ROOMS);
+        assertThat(roomService.getRoomsByType(CATALOG_TYPE)).extracting(Room::getRoomNumber).containsExactly("720101");
+    }
+
+    @Test
+    void roomChangesInvalidateCatalog() {
+        assertThat(roomService.getRoomsByType(CATALOG_TYPE)).isEmpty();
+
+        Room created = roomService.createRoom(newRoom("720102"));
+        assertThat(roomService.getRoomsByType(CATALOG_TYPE)).extracting(Room::getRoomNumber).containsExactly("720102");
+
+        roomService.updateRoomStatus(created.getId(), RoomStatus.MAINTENANCE);
+        assertThat(roomService.getRoomById(created.getId())).get()
+                .extracting(Room::getStatus).isEqualTo(RoomStatus.MAINTENANCE);
+        assertThat(roomService.getRoomsByStatus(RoomStatus.MAINTENANCE)).extracting(Room::getId).contains(created.getId());
+
+        assertThat(roomService.deleteRoom(created.getId())).isTrue();
+        assertThat(roomService.getRoomsByType(CATALOG_TYPE)).isEmpty();
+        assertThat(roomService.getRoomById(created.getId())).isEmpty();
+    }
+
+    @Test
+    void returnedRoomsDoNotShareSnapshot() {
+        Room room = roomService.getRoomsByType(CALENDAR_TYPE).get(0);
+        room.setStatus(RoomStatus.MAINTENANCE);
+
+        assertThat(roomService.getRoomsByType(CALENDAR_TYPE).get(0).getStatus()).isEqualTo(RoomStatus.AVAILABLE);
+    }
+
+    private static Room newRoom(String roomNumber) {
+        Room room = new Room();
+        room.setRoomNumber(roomNumber);
+        room.setRoomType(CATALOG_TYPE);
+        room.setPrice(new BigDecimal("100000"));
+        room.setStatus(RoomStatus.AVAILABLE);
+        return room;
+    }
+}
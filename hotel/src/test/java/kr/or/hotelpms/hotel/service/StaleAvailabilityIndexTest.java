@@ -0,0 +1,73 @@
+package kr.or.hotelpms.hotel.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import kr.or.hotelpms.hotel.config.CacheConfig;
+import kr.or.hotelpms.hotel.dto.ReservationDto;
+import kr.or.hotelpms.hotel.model.Reservation;
+import kr.or.hotelpms.hotel.repository.UserRepository;
+import kr.or.hotelpms.hotel.support.IntegrationTestSupport;
+import kr.or.hotelpms.hotel.support.RoomFixtures;
+
+// 다른 노드가 만든 예약이 이 노드의 인덱스에 없어도 자동 배정이 재시도 횟수 안에 빈 방을 찾는지 확인
+class StaleAvailabilityIndexTest extends IntegrationTestSupport {
+
+    private static final String ROOM_TYPE = "STALEIDX";
+    private static final LocalDate CHECK_IN = LocalDate.of(2033, 3, 10);
+    private static final LocalDate CHECK_OUT = LocalDate.of(2033, 3, 12);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 재시도 횟수(5)보다 많은 객실을 인덱스를 거치지 않고 예약 - 인덱스는 모두 비어 있다고 봄
+        RoomFixtures.insertRooms(jdbcTemplate, ROOM_TYPE, 710001, 8);
+        Long userId = userRepository.findByUsername("admin").orElseThrow().getId();
+        RoomFixtures.bookFirstRooms(jdbcTemplate, ROOM_TYPE, 7, userId, CHECK_IN, CHECK_OUT);
+        cacheService.clearAfterCommit(CacheConfig.ROOMS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RoomFixtures.deleteRooms(jdbcTemplate, ROOM_TYPE);
+        cacheService.clearAfterCommit(CacheConfig.ROOMS);
+    }
+
+    @Test
+    void fallsBackToDatabaseAfterFirstIndexMiss() {
+        assertThat(roomAvailabilityIndex.covers(CHECK_IN)).isTrue();
+
+        ReservationDto.ReservationRequest request = new ReservationDto.ReservationRequest();
+        request.setUsername("admin");
+        request.setGuestName("인덱스 테스트");
+        request.setRoomType(ROOM_TYPE);
+        request.setCheckIn(CHECK_IN);
+        request.setCheckOut(CHECK_OUT);
+        request.setPeople(1);
+
+        Reservation reservation = reservationService.createReservationByUsername(request);
+
+        assertThat(reservation.getRoom().getRoomNumber()).isEqualTo("710008");
+    }
+}
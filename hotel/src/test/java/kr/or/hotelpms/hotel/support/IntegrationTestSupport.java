@@ -0,0 +1,22 @@
+package kr.or.hotelpms.hotel.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MariaDBContainer;
+
+/**
+ * MariaDB 컨테이너를 띄워 실행하는 통합 테스트 공통 설정.
+ * 컨테이너는 테스트 JVM 전체에서 한 번만 띄우고, 같은 설정의 테스트 클래스는 스프링 컨텍스트도 공유한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class IntegrationTestSupport {
+
+    @ServiceConnection
+    protected static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+    static {
+        MARIADB.start();
+    }
+}
@@ -0,0 +1,56 @@
+package kr.or.hotelpms.hotel.support;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 테스트 전용 객실/예약 데이터를 JDBC 배치로 넣고 지우는 도우미.
+ * 운영 데이터(초기 객실)와 섞이지 않도록 전용 객실 타입과 큰 객실 번호 대역을 쓴다.
+ */
+public final class RoomFixtures {
+
+    private RoomFixtures() {
+    }
+
+    // roomType 객실을 numberFrom부터 count개 생성
+    public static void insertRooms(JdbcTemplate jdbcTemplate, String roomType, int numberFrom, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{String.valueOf(numberFrom + i), roomType});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO rooms (room_number, room_type, price, status, created_at, updated_at) " +
+                "VALUES (?, ?, 100000, 'AVAILABLE', NOW(), NOW())", rows);
+    }
+
+    // roomType 객실 중 객실 번호 순으로 앞에서 bookedCount개를 [checkIn, checkOut) 기간 예약 상태로 만듦
+    public static void bookFirstRooms(JdbcTemplate jdbcTemplate, String roomType, int bookedCount,
+                                      Long userId, LocalDate checkIn, LocalDate checkOut) {
+        List<Long> roomIds = jdbcTemplate.queryForList(
+                "SELECT id FROM rooms WHERE room_type = ? ORDER BY CAST(room_number AS UNSIGNED) LIMIT ?",
+                Long.class, roomType, bookedCount);
+        List<Object[]> rows = new ArrayList<>(roomIds.size());
+        for (Long roomId : roomIds) {
+            rows.add(new Object[]{userId, roomId, checkIn, checkOut});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservations (user_id, room_id, check_in, check_out, people, " +
+                "payment_status, status, created_at, updated_at) VALUES (?, ?, ?, ?, 1, 'PENDING', 'RESERVED', NOW(), NOW())",
+                rows);
+    }
+
+    // 객실 번호로 객실 하나를 [checkIn, checkOut) 기간 예약 상태로 만듦
+    public static void bookRoom(JdbcTemplate jdbcTemplate, String roomNumber,
+                                Long userId, LocalDate checkIn, LocalDate checkOut) {
+        jdbcTemplate.update("INSERT INTO reservations (user_id, room_id, check_in, check_out, people, " +
+                "payment_status, status, created_at, updated_at) SELECT ?, id, ?, ?, 1, 'PENDING', 'RESERVED', NOW(), NOW() " +
+                "FROM rooms WHERE room_number = ?", userId, checkIn, checkOut, roomNumber);
+    }
+
+    public static void deleteRooms(JdbcTemplate jdbcTemplate, String roomType) {
+        jdbcTemplate.update("DELETE res FROM reservations res JOIN rooms r ON res.room_id = r.id WHERE r.room_type = ?",
+                roomType);
+        jdbcTemplate.update("DELETE FROM rooms WHERE room_type = ?", roomType);
+    }
+}
@@ -0,0 +1,78 @@
+package kr.or.hotelpms.hotel.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.or.hotelpms.hotel.config.JwtConfig;
+import kr.or.hotelpms.hotel.security.JwtProvider;
+import kr.or.hotelpms.hotel.security.VerifiedTokenCache;
+
+// ES256 전환 후 kid 없는 기존 HS512 토큰 처리
+class JwtUtilTest {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890123456789012345678901234567890";
+
+    @Test
+    void rejectsLegacyTokenByDefault() {
+        JwtUtil jwtUtil = jwtUtil(es256Config());
+
+        assertThat(jwtUtil.parseVerifiedClaims(legacyToken())).isEmpty();
+    }
+
+    @Test
+    void acceptsLegacyTokenOnlyWhenEnabledAndBeforeCutoff() {
+        JwtConfig open = es256Config();
+        open.setAcceptLegacyHs512(true);
+        open.setLegacyHs512Until(Instant.now().plusSeconds(3600));
+        assertThat(jwtUtil(open).parseVerifiedClaims(legacyToken())).isPresent();
+
+        JwtConfig closed = es256Config();
+        closed.setAcceptLegacyHs512(true);
+        closed.setLegacyHs512Until(Instant.now().minusSeconds(1));
+        assertThat(jwtUtil(closed).parseVerifiedClaims(legacyToken())).isEmpty();
+    }
+
+    @Test
+    void verifiesTokensSignedWithTheKeyRing() {
+        JwtUtil jwtUtil = jwtUtil(es256Config());
+
+        String token = jwtUtil.generateToken("user", "ROLE_USER");
+
+        assertThat(jwtUtil.parseVerifiedClaims(token)).hasValueSatisfying(
+                claims -> assertThat(claims.getSubject()).isEqualTo("user"));
+    }
+
+    private static JwtConfig es256Config() {
+        JwtConfig config = new JwtConfig();
+        config.setAlgorithm("ES256");
+        return config;
+    }
+
+    private static JwtUtil jwtUtil(JwtConfig config) {
+        JwtProvider provider = new JwtProvider(config);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        JwtUtil jwtUtil = new JwtUtil(new VerifiedTokenCache(100, new SimpleMeterRegistry()), provider);
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 60_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    private static String legacyToken() {
+        return Jwts.builder()
+                .setSubject("user")
+                .claim("role", "ROLE_USER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS512)
+                .compact();
+    }
+}